@@ -0,0 +1,79 @@
+package Engine;
+
+public final class Bitboards {
+    private Bitboards() {
+    }
+
+    // Board dimensions:
+    public static final int BOARD_SIZE = 8;
+    public static final int SQUARES = 64;
+    public static final int NO_SQUARE = -1;
+
+    // Common masks:
+    public static final long EMPTY = 0L;
+    public static final long FULL = ~0L;
+    public static final long LIGHT_SQUARES = 0xAA55AA55AA55AA55L; // a8 and every square of its color
+
+    /**
+     * Get square index of given row and col (row 0 is black's first row, same order as the board tiles)
+     */
+    public static int square(int row, int col) {
+        return row * BOARD_SIZE + col;
+    }
+
+    /**
+     * Get row of given square index
+     */
+    public static int getRow(int square) {
+        return square >>> 3;
+    }
+
+    /**
+     * Get col of given square index
+     */
+    public static int getCol(int square) {
+        return square & 7;
+    }
+
+    /**
+     * Check if given row and col are inside the board
+     */
+    public static boolean isOnBoard(int row, int col) {
+        return row >= 0 && row < BOARD_SIZE && col >= 0 && col < BOARD_SIZE;
+    }
+
+    /**
+     * Get bitboard with only given square set
+     */
+    public static long bit(int square) {
+        return 1L << square;
+    }
+
+    /**
+     * Check if given square is set in bitboard
+     */
+    public static boolean contains(long bitboard, int square) {
+        return (bitboard & (1L << square)) != 0;
+    }
+
+    /**
+     * Get the lowest square set in bitboard
+     */
+    public static int lowestSquare(long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    /**
+     * Count the squares set in bitboard
+     */
+    public static int count(long bitboard) {
+        return Long.bitCount(bitboard);
+    }
+
+    /**
+     * Get square name in board notation (e.g. "e4")
+     */
+    public static String squareName(int square) {
+        return "" + (char) ('a' + getCol(square)) + (char) ('8' - getRow(square));
+    }
+}
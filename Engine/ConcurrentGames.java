@@ -0,0 +1,115 @@
+package Engine;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ConcurrentGames {
+    public static final int DEFAULT_GAMES = 10_000;
+    public static final int DEFAULT_MAX_PLIES = 100;
+
+    private final int maxPlies;
+    private final Game[] games;
+    private final SplittableRandom[] randoms; // each game picks its moves from its own seeded random
+    private final long[] traces; // hash of the keys each game passed through
+
+    /**
+     * Create given amount of games, all in the starting position
+     */
+    public ConcurrentGames(int gameCount, int maxPlies) {
+        this.maxPlies = maxPlies;
+        this.games = new Game[gameCount];
+        this.randoms = new SplittableRandom[gameCount];
+        this.traces = new long[gameCount];
+        for (int index = 0; index < gameCount; index++) {
+            games[index] = new Game();
+            randoms[index] = new SplittableRandom(index);
+        }
+    }
+
+    /**
+     * Play all games at once ("[games] [threads] [max plies]"), then check each against a sequential replay
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int gameCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int maxPlies = (args.length > 2) ? Integer.parseInt(args[2]) : DEFAULT_MAX_PLIES;
+
+        ConcurrentGames concurrentGames = new ConcurrentGames(gameCount, maxPlies);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        long moves = pool.submit(concurrentGames::playAll).get();
+        long time = System.nanoTime() - start;
+        pool.shutdown();
+
+        System.out.println(gameCount + " games on " + threads + " threads: " + moves + " moves in " + time / 1_000_000 + " ms ("
+                + Perft.nodesPerSecond(moves, time) + " moves per second)");
+        System.out.println("Statuses: " + concurrentGames.countStatuses());
+        int mismatches = concurrentGames.verify();
+        System.out.println(mismatches == 0 ? "OK   every game matches its sequential replay" : "FAIL " + mismatches + " games differ from their replay");
+        System.exit(mismatches == 0 ? 0 : 1);
+    }
+
+
+    // Playing:
+
+    /**
+     * Play one move in every game per round, the games of a round are spread over the pool's threads, returns moves played
+     */
+    public long playAll() {
+        long moves = 0;
+        for (int ply = 0; ply < maxPlies; ply++) {
+            moves += IntStream.range(0, games.length).parallel().filter(this::playRandomMove).count();
+        }
+        return moves;
+    }
+
+    /**
+     * Play a random legal move in game of given index, returns false if the game is over
+     */
+    private boolean playRandomMove(int index) {
+        Game game = games[index];
+        if (game.status().isOver()) return false;
+        MoveList moves = game.legalMoves();
+        int move = moves.get(randoms[index].nextInt(moves.size()));
+        if (!game.play(move)) {
+            throw new IllegalStateException("Game " + index + " rejected its own legal move " + Move.toString(move));
+        }
+        traces[index] = traces[index] * 31 + game.getPosition().getKey();
+        return true;
+    }
+
+
+    // Verification:
+
+    /**
+     * Replay every game alone on this thread and count the games that ended differently
+     */
+    public int verify() {
+        ConcurrentGames replay = new ConcurrentGames(games.length, maxPlies);
+        int mismatches = 0;
+        for (int index = 0; index < games.length; index++) {
+            for (int ply = 0; ply < maxPlies; ply++) {
+                if (!replay.playRandomMove(index)) break;
+            }
+            if (replay.traces[index] != traces[index] || replay.games[index].getPlayedCount() != games[index].getPlayedCount()) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * Count the games of each status
+     */
+    public Map<GameStatus, Integer> countStatuses() {
+        Map<GameStatus, Integer> counts = new EnumMap<>(GameStatus.class);
+        for (Game game : games) {
+            counts.merge(game.status(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
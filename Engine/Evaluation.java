@@ -0,0 +1,106 @@
+package Engine;
+
+import static Engine.PieceType.*;
+
+public final class Evaluation {
+    private Evaluation() {
+    }
+
+    // Piece values in centipawns, by piece type (the king is never traded)
+    public static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    // Piece-square bonuses by piece type, from white's side (row 0 is black's first row, black reads them mirrored)
+    private static final int[][] SQUARE_BONUSES = {
+            { // pawn
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    50, 50, 50, 50, 50, 50, 50, 50,
+                    10, 10, 20, 30, 30, 20, 10, 10,
+                    5, 5, 10, 25, 25, 10, 5, 5,
+                    0, 0, 0, 20, 20, 0, 0, 0,
+                    5, -5, -10, 0, 0, -10, -5, 5,
+                    5, 10, 10, -20, -20, 10, 10, 5,
+                    0, 0, 0, 0, 0, 0, 0, 0},
+            { // knight
+                    -50, -40, -30, -30, -30, -30, -40, -50,
+                    -40, -20, 0, 0, 0, 0, -20, -40,
+                    -30, 0, 10, 15, 15, 10, 0, -30,
+                    -30, 5, 15, 20, 20, 15, 5, -30,
+                    -30, 0, 15, 20, 20, 15, 0, -30,
+                    -30, 5, 10, 15, 15, 10, 5, -30,
+                    -40, -20, 0, 5, 5, 0, -20, -40,
+                    -50, -40, -30, -30, -30, -30, -40, -50},
+            { // bishop
+                    -20, -10, -10, -10, -10, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 10, 10, 5, 0, -10,
+                    -10, 5, 5, 10, 10, 5, 5, -10,
+                    -10, 0, 10, 10, 10, 10, 0, -10,
+                    -10, 10, 10, 10, 10, 10, 10, -10,
+                    -10, 5, 0, 0, 0, 0, 5, -10,
+                    -20, -10, -10, -10, -10, -10, -10, -20},
+            { // rook
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    5, 10, 10, 10, 10, 10, 10, 5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    0, 0, 0, 5, 5, 0, 0, 0},
+            { // queen
+                    -20, -10, -10, -5, -5, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 5, 5, 5, 0, -10,
+                    -5, 0, 5, 5, 5, 5, 0, -5,
+                    0, 0, 5, 5, 5, 5, 0, -5,
+                    -10, 5, 5, 5, 5, 5, 0, -10,
+                    -10, 0, 5, 0, 0, 0, 0, -10,
+                    -20, -10, -10, -5, -5, -10, -10, -20},
+            { // king, stay castled behind the pawns
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -20, -30, -30, -40, -40, -30, -30, -20,
+                    -10, -20, -20, -20, -20, -20, -20, -10,
+                    20, 20, 0, 0, 0, 0, 20, 20,
+                    20, 30, 10, 0, 0, 10, 30, 20}
+    };
+    private static final int MIRROR = 56; // square ^ MIRROR flips the rows
+
+    // Value and square bonus of each piece code on each square
+    private static final int[][] PIECE_SQUARE_VALUES = new int[PIECES][Bitboards.SQUARES];
+
+    static {
+        for (int type = PAWN; type <= KING; type++) {
+            for (int square = 0; square < Bitboards.SQUARES; square++) {
+                PIECE_SQUARE_VALUES[make(WHITE, type)][square] = PIECE_VALUES[type] + SQUARE_BONUSES[type][square];
+                PIECE_SQUARE_VALUES[make(BLACK, type)][square] = PIECE_VALUES[type] + SQUARE_BONUSES[type][square ^ MIRROR];
+            }
+        }
+    }
+
+    /**
+     * Evaluate given position in centipawns from the side to move's point of view (material and piece placement)
+     */
+    public static int evaluate(Position position) {
+        int score = 0;
+        for (int type = PAWN; type <= KING; type++) {
+            score += sumPieces(position, make(WHITE, type)) - sumPieces(position, make(BLACK, type));
+        }
+        return position.getSideToMove() == WHITE ? score : -score;
+    }
+
+    /**
+     * Sum the values of all pieces of given piece code on their squares
+     */
+    private static int sumPieces(Position position, int piece) {
+        int[] squares = position.getPieceSquares(piece);
+        int[] values = PIECE_SQUARE_VALUES[piece];
+        int sum = 0;
+        for (int index = 0; index < position.getPieceCount(piece); index++) {
+            sum += values[squares[index]];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,253 @@
+package Engine;
+
+import java.util.Arrays;
+
+import static Engine.PieceType.*;
+
+public class Game {
+    private static final int INITIAL_HISTORY_SIZE = 256;
+    public static final int FIFTY_MOVE_PLIES = 100; // halfmove clock of the fifty move rule
+    public static final int SEVENTY_FIVE_MOVE_PLIES = 150; // halfmove clock of the seventy-five move rule
+
+    private final Position position;
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+
+    // Legal moves cache of one position, generated once per turn and reused by every query until a move is played
+    private final MoveList legalMoves = new MoveList();
+    private final long[] quietTargets = new long[Bitboards.SQUARES]; // quiet move targets of each from square
+    private final long[] captureTargets = new long[Bitboards.SQUARES]; // capture targets of each from square
+    private long movablePieces = 0L; // from squares that have legal moves
+    private long cachedKey = 0L;
+    private boolean cacheValid = false;
+
+    // Played moves, in order, for undo
+    private int[] playedMoves = new int[INITIAL_HISTORY_SIZE];
+    private int playedCount = 0;
+
+    private boolean fiftyMoveDraw = true; // end the game at fifty moves, otherwise only the seventy-five move rule ends it
+
+    /**
+     * Create game from the starting position
+     */
+    public Game() {
+        this(Position.startPosition());
+    }
+
+    /**
+     * Create game from given position, the game owns the position from now on
+     */
+    public Game(Position position) {
+        this.position = position;
+    }
+
+
+    // Rules:
+
+    /**
+     * Get the legal moves of the side to move (cached, don't modify the list)
+     */
+    public MoveList legalMoves() {
+        updateCache();
+        legalMoves.rewind();
+        return legalMoves;
+    }
+
+    /**
+     * Get the target squares of the legal moves starting on given square
+     */
+    public long getMoveTargets(int from) {
+        updateCache();
+        return quietTargets[from] | captureTargets[from];
+    }
+
+    /**
+     * Get the target squares of the legal captures starting on given square (including en passant)
+     */
+    public long getCaptureTargets(int from) {
+        updateCache();
+        return captureTargets[from];
+    }
+
+    /**
+     * Check if given move is legal in the current position
+     */
+    public boolean isLegal(int move) {
+        return Bitboards.contains(getMoveTargets(Move.getFrom(move)), Move.getTo(move)) && legalMoves.contains(move);
+    }
+
+    /**
+     * Find the legal move between given squares (promotions to given type), Move.NONE if there is none
+     */
+    public int findMove(int from, int to, int promotionType) {
+        if (!Bitboards.contains(getMoveTargets(from), to)) return Move.NONE;
+        MoveList moves = legalMoves();
+        while (moves.hasNext()) {
+            int move = moves.next();
+            if (Move.getFrom(move) != from || Move.getTo(move) != to) continue;
+            if (!Move.isPromotion(move) || Move.getPromotionType(move) == promotionType) {
+                return move;
+            }
+        }
+        return Move.NONE;
+    }
+
+    /**
+     * Play given move if the game is running and the move is legal, returns if it was played
+     */
+    public boolean play(int move) {
+        if (status().isOver() || !isLegal(move)) return false;
+        position.makeMove(move);
+        cacheValid = false;
+        if (playedCount == playedMoves.length) {
+            playedMoves = Arrays.copyOf(playedMoves, playedMoves.length * 2);
+        }
+        playedMoves[playedCount++] = move;
+        return true;
+    }
+
+    /**
+     * Take back the last played move, returns false if no move was played
+     */
+    public boolean undo() {
+        if (playedCount == 0) return false;
+        position.unmakeMove(playedMoves[--playedCount]);
+        cacheValid = false;
+        return true;
+    }
+
+    /**
+     * Get the game status of the current position
+     */
+    public GameStatus status() {
+        if (!hasLegalMove()) {
+            return position.isInCheck(position.getSideToMove()) ? GameStatus.CHECKMATE : GameStatus.STALEMATE;
+        }
+        if (position.isInsufficientMaterial()) return GameStatus.INSUFFICIENT_MATERIAL;
+        if (position.getHalfmoveClock() >= SEVENTY_FIVE_MOVE_PLIES) return GameStatus.SEVENTY_FIVE_MOVE_RULE;
+        if (fiftyMoveDraw && position.getHalfmoveClock() >= FIFTY_MOVE_PLIES) return GameStatus.FIFTY_MOVE_RULE;
+        if (position.countRepetitions() >= 2) return GameStatus.THREEFOLD_REPETITION;
+        return GameStatus.ONGOING;
+    }
+
+    /**
+     * Check if the side to move has a legal move, from the cache if this position's moves were generated, otherwise with
+     * the generator's early exit (a status check right after a move doesn't need the whole list)
+     */
+    private boolean hasLegalMove() {
+        if (isCacheFresh()) return !legalMoves.isEmpty();
+        return moveGenerator.hasLegalMove(position);
+    }
+
+    /**
+     * Check if the cached legal moves belong to the current position
+     */
+    private boolean isCacheFresh() {
+        return cacheValid && cachedKey == position.getKey();
+    }
+
+    /**
+     * Generate the legal moves and their targets of each square, unless they were generated for this position key
+     */
+    private void updateCache() {
+        if (isCacheFresh()) return;
+        for (; movablePieces != 0; movablePieces &= movablePieces - 1) {
+            int from = Bitboards.lowestSquare(movablePieces);
+            quietTargets[from] = 0L;
+            captureTargets[from] = 0L;
+        }
+
+        moveGenerator.generateLegalMoves(position, legalMoves);
+        for (int index = 0; index < legalMoves.size(); index++) {
+            int move = legalMoves.get(index);
+            int from = Move.getFrom(move);
+            if (Move.isCapture(move)) {
+                captureTargets[from] |= Bitboards.bit(Move.getTo(move));
+            } else {
+                quietTargets[from] |= Bitboards.bit(Move.getTo(move));
+            }
+            movablePieces |= Bitboards.bit(from);
+        }
+        cachedKey = position.getKey();
+        cacheValid = true;
+    }
+
+
+    // Getters & Setters:
+
+    /**
+     * Get the game position (read only, change it through play and undo)
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Get an immutable snapshot of the current position
+     */
+    public PositionSnapshot snapshot() {
+        return PositionSnapshot.from(position);
+    }
+
+    /**
+     * Get the color to move
+     */
+    public int getSideToMove() {
+        return position.getSideToMove();
+    }
+
+    /**
+     * Get piece code on given square, NONE if empty
+     */
+    public int getPiece(int square) {
+        return position.getPiece(square);
+    }
+
+    /**
+     * Get amount of played moves
+     */
+    public int getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * Get the last played move, Move.NONE if no move was played
+     */
+    public int getLastMove() {
+        return playedCount == 0 ? Move.NONE : playedMoves[playedCount - 1];
+    }
+
+    /**
+     * Check if the color to move is in check
+     */
+    public boolean isInCheck() {
+        return position.isInCheck(position.getSideToMove());
+    }
+
+    /**
+     * Check if the fifty move rule ends the game
+     */
+    public boolean isFiftyMoveDraw() {
+        return fiftyMoveDraw;
+    }
+
+    /**
+     * Set if the fifty move rule ends the game (the seventy-five move rule always does)
+     */
+    public void setFiftyMoveDraw(boolean fiftyMoveDraw) {
+        this.fiftyMoveDraw = fiftyMoveDraw;
+    }
+
+    /**
+     * Get bitboard of given color's pieces the other color wins material from by capturing now (static exchange, no search)
+     */
+    public long getHangingPieces(int color) {
+        return StaticExchange.hangingPieces(position, color);
+    }
+
+    /**
+     * Get the winner color if the game ended by checkmate, NONE otherwise
+     */
+    public int getWinner() {
+        return status() == GameStatus.CHECKMATE ? opposite(position.getSideToMove()) : NONE;
+    }
+}
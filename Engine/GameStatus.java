@@ -0,0 +1,38 @@
+package Engine;
+
+public enum GameStatus {
+    ONGOING("ongoing"),
+    CHECKMATE("checkmate"),
+    STALEMATE("stalemate"),
+    THREEFOLD_REPETITION("threefold repetition"),
+    FIFTY_MOVE_RULE("fifty move rule"),
+    SEVENTY_FIVE_MOVE_RULE("seventy-five move rule"),
+    INSUFFICIENT_MATERIAL("insufficient material");
+
+    private final String description;
+
+    GameStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Check if the game has ended
+     */
+    public boolean isOver() {
+        return this != ONGOING;
+    }
+
+    /**
+     * Check if the game ended as a draw
+     */
+    public boolean isDraw() {
+        return this != ONGOING && this != CHECKMATE;
+    }
+
+    /**
+     * Get readable status name
+     */
+    public String getDescription() {
+        return description;
+    }
+}
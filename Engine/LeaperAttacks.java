@@ -0,0 +1,69 @@
+package Engine;
+
+public final class LeaperAttacks {
+    private LeaperAttacks() {
+    }
+
+    // Steps (row step, col step):
+    private static final int[][] KNIGHT_STEPS = {{-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}};
+    private static final int[][] KING_STEPS = {{-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}};
+    private static final int[][] WHITE_PAWN_STEPS = {{-1, -1}, {-1, 1}}; // white pawns move up the board
+    private static final int[][] BLACK_PAWN_STEPS = {{1, -1}, {1, 1}};
+
+    // Attack tables, one entry per square:
+    private static final long[] KNIGHT_ATTACKS = new long[Bitboards.SQUARES];
+    private static final long[] KING_ATTACKS = new long[Bitboards.SQUARES];
+    private static final long[][] PAWN_ATTACKS = new long[2][Bitboards.SQUARES];
+
+    static {
+        for (int square = 0; square < Bitboards.SQUARES; square++) {
+            KNIGHT_ATTACKS[square] = stepAttacks(square, KNIGHT_STEPS);
+            KING_ATTACKS[square] = stepAttacks(square, KING_STEPS);
+            PAWN_ATTACKS[PieceType.WHITE][square] = stepAttacks(square, WHITE_PAWN_STEPS);
+            PAWN_ATTACKS[PieceType.BLACK][square] = stepAttacks(square, BLACK_PAWN_STEPS);
+        }
+    }
+
+    /**
+     * Get knight attacks from given square
+     */
+    public static long knightAttacks(int square) {
+        return KNIGHT_ATTACKS[square];
+    }
+
+    /**
+     * Get king attacks from given square
+     */
+    public static long kingAttacks(int square) {
+        return KING_ATTACKS[square];
+    }
+
+    /**
+     * Get attacks of a pawn of given color from given square
+     */
+    public static long pawnAttacks(int color, int square) {
+        return PAWN_ATTACKS[color][square];
+    }
+
+    /**
+     * Get pawn's forward direction in squares by given color
+     */
+    public static int pawnForward(int color) {
+        return color == PieceType.WHITE ? -Bitboards.BOARD_SIZE : Bitboards.BOARD_SIZE;
+    }
+
+    /**
+     * Calculates the squares reached from given square by each step that stays on board
+     */
+    private static long stepAttacks(int square, int[][] steps) {
+        long attacks = 0L;
+        for (int[] step : steps) {
+            int row = Bitboards.getRow(square) + step[0];
+            int col = Bitboards.getCol(square) + step[1];
+            if (Bitboards.isOnBoard(row, col)) {
+                attacks |= Bitboards.bit(Bitboards.square(row, col));
+            }
+        }
+        return attacks;
+    }
+}
@@ -0,0 +1,118 @@
+package Engine;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+abstract class LockFreeTable {
+    // Entry layout: two longs, the key xor data and the data, so an entry torn by a concurrent write fails the key check
+    static final int ENTRY_LONGS = 2;
+    private static final long MAX_LONGS = 1L << 30; // the array holds at most 2^30 longs
+
+    private final AtomicLongArray entries; // shared by all threads without locks
+    private final int bucketLongs;
+    private final int bucketMask;
+
+    // Stats:
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Create table of given size in megabytes with given entries per bucket (rounded down to a power of two buckets)
+     */
+    LockFreeTable(int sizeMb, int bucketEntries) {
+        this.bucketLongs = bucketEntries * ENTRY_LONGS;
+        long bucketCount = Long.highestOneBit(Math.max(1, (long) sizeMb * 1024 * 1024 / (bucketLongs * Long.BYTES)));
+        bucketCount = Math.min(bucketCount, MAX_LONGS / bucketLongs);
+        this.entries = new AtomicLongArray((int) bucketCount * bucketLongs);
+        this.bucketMask = (int) bucketCount - 1;
+    }
+
+
+    // Entries:
+
+    /**
+     * Get the entry index of given key's bucket's first entry, the next entry is ENTRY_LONGS further
+     */
+    final int bucket(long key) {
+        return ((int) key & bucketMask) * bucketLongs;
+    }
+
+    /**
+     * Get the index after given bucket's last entry
+     */
+    final int bucketEnd(int bucket) {
+        return bucket + bucketLongs;
+    }
+
+    /**
+     * Get the data of given entry, read once, check it belongs to a key with holdsKey
+     */
+    final long getData(int entry) {
+        return entries.getOpaque(entry + 1);
+    }
+
+    /**
+     * Check if given data read from given entry was written with given key (false for a torn or other key's entry)
+     */
+    final boolean holdsKey(int entry, long key, long data) {
+        return (entries.getOpaque(entry) ^ data) == key;
+    }
+
+    /**
+     * Write given key's data into given entry
+     */
+    final void write(int entry, long key, long data) {
+        entries.setOpaque(entry, key ^ data);
+        entries.setOpaque(entry + 1, data);
+    }
+
+    /**
+     * Count a probe for the hit rate
+     */
+    final void countProbe(boolean hit) {
+        probes.increment();
+        if (hit) hits.increment();
+    }
+
+    /**
+     * Remove all entries (not while a search or count uses the table)
+     */
+    public void clear() {
+        for (int index = 0; index < entries.length(); index++) {
+            entries.setOpaque(index, 0L);
+        }
+    }
+
+
+    // Stats:
+
+    /**
+     * Get percentage of probes that found their entry
+     */
+    public double getHitRate() {
+        long probeCount = probes.sum();
+        return probeCount == 0 ? 0 : 100.0 * hits.sum() / probeCount;
+    }
+
+    /**
+     * Get amount of probes since last reset
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * Reset the hit rate stats
+     */
+    public void resetStats() {
+        probes.reset();
+        hits.reset();
+    }
+
+    /**
+     * Get table size in megabytes
+     */
+    public long getSizeMb() {
+        return (long) entries.length() * Long.BYTES / (1024 * 1024);
+    }
+}
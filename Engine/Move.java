@@ -0,0 +1,98 @@
+package Engine;
+
+public final class Move {
+    private Move() {
+    }
+
+    // Move layout: bits 0-5 from square, bits 6-11 to square, bits 12-15 flags
+    private static final int SQUARE_MASK = 0x3F;
+    private static final int TO_SHIFT = 6;
+    private static final int FLAGS_SHIFT = 12;
+    public static final int NONE = 0;
+
+    // Move flags:
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KING_CASTLE = 2;
+    public static final int QUEEN_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int PROMOTION = 8; // promotion flags are PROMOTION + (piece type - KNIGHT)
+    public static final int PROMOTION_CAPTURE = 12; // promotion capture flags are PROMOTION_CAPTURE + (piece type - KNIGHT)
+
+    /**
+     * Create move by given squares and flags
+     */
+    public static int make(int from, int to, int flags) {
+        return from | (to << TO_SHIFT) | (flags << FLAGS_SHIFT);
+    }
+
+    /**
+     * Create promotion move to given piece type
+     */
+    public static int makePromotion(int from, int to, int promotionType, boolean capture) {
+        int flags = (capture ? PROMOTION_CAPTURE : PROMOTION) + promotionType - PieceType.KNIGHT;
+        return make(from, to, flags);
+    }
+
+    /**
+     * Get move's from square
+     */
+    public static int getFrom(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    /**
+     * Get move's to square
+     */
+    public static int getTo(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    /**
+     * Get move's flags
+     */
+    public static int getFlags(int move) {
+        return move >>> FLAGS_SHIFT;
+    }
+
+    /**
+     * Check if move captures a piece (including en passant and promotion captures)
+     */
+    public static boolean isCapture(int move) {
+        return (getFlags(move) & CAPTURE) != 0;
+    }
+
+    /**
+     * Check if move is a pawn promotion
+     */
+    public static boolean isPromotion(int move) {
+        return (getFlags(move) & PROMOTION) != 0;
+    }
+
+    /**
+     * Check if move is a castling move
+     */
+    public static boolean isCastling(int move) {
+        int flags = getFlags(move);
+        return flags == KING_CASTLE || flags == QUEEN_CASTLE;
+    }
+
+    /**
+     * Get the piece type the pawn promotes to
+     */
+    public static int getPromotionType(int move) {
+        return (getFlags(move) & 3) + PieceType.KNIGHT;
+    }
+
+    /**
+     * Get move in coordinate notation (e.g. "e2e4", "e7e8q")
+     */
+    public static String toString(int move) {
+        String text = Bitboards.squareName(getFrom(move)) + Bitboards.squareName(getTo(move));
+        if (isPromotion(move)) {
+            text += Character.toLowerCase(PieceType.denote(getPromotionType(move)));
+        }
+        return text;
+    }
+}
@@ -0,0 +1,396 @@
+package Engine;
+
+import static Engine.PieceType.*;
+
+public class MoveGenerator {
+    public static final int MAX_MOVES = 256; // no legal chess position has more moves
+    public static final int MAX_PLY = 128;
+
+    // Castling squares of each color (king start square, rook start squares):
+    private static final int[] KING_START = {Bitboards.square(7, 4), Bitboards.square(0, 4)};
+    private static final int[] KING_SIDE_RIGHT = {Position.WHITE_KING_SIDE, Position.BLACK_KING_SIDE};
+    private static final int[] QUEEN_SIDE_RIGHT = {Position.WHITE_QUEEN_SIDE, Position.BLACK_QUEEN_SIDE};
+    private static final int KING_SIDE_ROOK_OFFSET = 3;
+    private static final int QUEEN_SIDE_ROOK_OFFSET = -4;
+
+    // Kinds of generated moves:
+    private static final int ALL_MOVES = 0;
+    private static final int CAPTURES = 1; // captures, en passant and promotions, every evasion when in check
+    private static final int QUIETS = 2; // all the other moves
+
+    // Squares of each castling right (indexed by the right's bit index), the rights bit already proves king and rook didn't move:
+    private static final long[] CASTLING_EMPTY = new long[4]; // squares between king and rook
+    private static final long[] CASTLING_SAFE = new long[4]; // squares the king starts on, passes and lands on
+
+    static {
+        for (int color = WHITE; color <= BLACK; color++) {
+            initCastling(color, true);
+            initCastling(color, false);
+        }
+    }
+
+    // Generation state, computed once per position:
+    private Position position;
+    private int us;
+    private int them;
+    private int kingSquare;
+    private long ours;
+    private long theirs;
+    private long occupied;
+    private long checkers; // opposite pieces giving check
+    private long pinned; // own pieces that can only move along the line to their king
+    private long checkMask; // squares a non king move must land on (everything when not in check)
+    private int kind; // kind of moves being generated
+    private long targetFilter; // squares moves may land on: their pieces for captures, empty squares for quiets
+
+    // Output buffer:
+    private int[] moves;
+    private int count;
+
+    // Reusable move list of each search ply, so recursive generation doesn't allocate.
+    // Created on first use, a generator that only serves one game never fills the deep plies.
+    private final MoveList[] plyMoves = new MoveList[MAX_PLY];
+    private final int[] scratchMoves = new int[MAX_MOVES]; // buffer of the isLegal and hasLegalMove checks
+
+
+    // Move generation:
+
+    /**
+     * Generate the legal moves of the side to move into the reusable list of given ply and return it
+     */
+    public MoveList generateLegalMoves(Position position, int ply) {
+        MoveList moveList = plyMoves[ply];
+        if (moveList == null) {
+            moveList = plyMoves[ply] = new MoveList();
+        }
+        generateLegalMoves(position, moveList);
+        return moveList;
+    }
+
+    /**
+     * Replace given list content with the legal moves of the side to move
+     */
+    public void generateLegalMoves(Position position, MoveList moveList) {
+        moveList.setSize(generateLegalMoves(position, moveList.getBuffer()));
+    }
+
+    /**
+     * Fill given buffer with the legal moves of the side to move and return their amount
+     */
+    public int generateLegalMoves(Position position, int[] moves) {
+        return generate(position, moves, ALL_MOVES);
+    }
+
+    /**
+     * Generate the legal captures and promotions of the side to move (every evasion when in check) into the
+     * reusable list of given ply and return it
+     */
+    public MoveList generateCaptures(Position position, int ply) {
+        MoveList moveList = plyMoves[ply];
+        if (moveList == null) {
+            moveList = plyMoves[ply] = new MoveList();
+        }
+        generateCaptures(position, moveList);
+        return moveList;
+    }
+
+    /**
+     * Replace given list content with the legal captures and promotions of the side to move (every evasion when in check)
+     */
+    public void generateCaptures(Position position, MoveList moveList) {
+        moveList.setSize(generate(position, moveList.getBuffer(), CAPTURES));
+    }
+
+    /**
+     * Replace given list content with the legal moves that are not captures or promotions
+     */
+    public void generateQuiets(Position position, MoveList moveList) {
+        moveList.setSize(generate(position, moveList.getBuffer(), QUIETS));
+    }
+
+    /**
+     * Check if given move is legal for the side to move, without generating all moves (for moves from a table or an
+     * other position, which may not fit this one)
+     */
+    public boolean isLegal(Position position, int move) {
+        int from = Move.getFrom(move);
+        int piece = position.getPiece(from);
+        if (move == Move.NONE || piece == NONE || colorOf(piece) != position.getSideToMove()) return false;
+        prepare(position, scratchMoves);
+        if (kingSquare == Bitboards.NO_SQUARE) return false;
+        kind = ALL_MOVES;
+        targetFilter = Bitboards.FULL;
+
+        if (typeOf(piece) == KING) {
+            addKingMoves();
+            if (checkers == 0) {
+                addCastlingMove(true);
+                addCastlingMove(false);
+            }
+        } else if (Bitboards.count(checkers) <= 1) {
+            addPieceMoves(typeOf(piece));
+        }
+        for (int index = 0; index < count; index++) {
+            if (scratchMoves[index] == move) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Fill given buffer with the legal moves of given kind and return their amount
+     */
+    private int generate(Position position, int[] moves, int kind) {
+        prepare(position, moves);
+        if (kingSquare == Bitboards.NO_SQUARE) return 0;
+        this.kind = (kind == CAPTURES && checkers != 0) ? ALL_MOVES : kind;
+        targetFilter = switch (this.kind) {
+            case CAPTURES -> theirs;
+            case QUIETS -> ~occupied;
+            default -> Bitboards.FULL;
+        };
+
+        addKingMoves();
+        if (Bitboards.count(checkers) > 1) return count; // double check, only the king can move
+
+        for (int type = PAWN; type <= QUEEN; type++) {
+            addPieceMoves(type);
+        }
+        if (checkers == 0 && this.kind != CAPTURES) {
+            addCastlingMove(true);
+            addCastlingMove(false);
+        }
+        return count;
+    }
+
+
+    // Game end queries:
+
+    /**
+     * Check if the side to move has any legal move, stopping at the first piece that has one
+     */
+    public boolean hasLegalMove(Position position) {
+        prepare(position, scratchMoves);
+        if (kingSquare == Bitboards.NO_SQUARE) return false;
+        kind = ALL_MOVES;
+        targetFilter = Bitboards.FULL;
+
+        addKingMoves();
+        if (count > 0) return true;
+        if (Bitboards.count(checkers) > 1) return false;
+
+        // most mobile pieces first: queens, rooks, bishops, knights and pawns last
+        for (int type = QUEEN; type >= PAWN; type--) {
+            addPieceMoves(type);
+            if (count > 0) return true;
+        }
+        return false; // castling is never the only move, its first king step is legal too
+    }
+
+
+    // Generation helpers:
+
+    /**
+     * Check if given color may castle now to given side (rights, empty path and no attacked king square)
+     */
+    public static boolean canCastle(Position position, int color, boolean kingSide) {
+        int right = kingSide ? KING_SIDE_RIGHT[color] : QUEEN_SIDE_RIGHT[color];
+        if ((position.getCastlingRights() & right) == 0) return false;
+        int index = Integer.numberOfTrailingZeros(right);
+        return (position.getOccupied() & CASTLING_EMPTY[index]) == 0 && (position.getAttacks(opposite(color)) & CASTLING_SAFE[index]) == 0;
+    }
+
+    /**
+     * Compute the empty and safe squares of given color's castling to given side
+     */
+    private static void initCastling(int color, boolean kingSide) {
+        int kingSquare = KING_START[color];
+        int index = Integer.numberOfTrailingZeros(kingSide ? KING_SIDE_RIGHT[color] : QUEEN_SIDE_RIGHT[color]);
+        int rookSquare = kingSquare + (kingSide ? KING_SIDE_ROOK_OFFSET : QUEEN_SIDE_ROOK_OFFSET);
+        int step = kingSide ? 1 : -1;
+        CASTLING_EMPTY[index] = SliderAttacks.between(kingSquare, rookSquare);
+        // the king may not start, pass or land on an attacked square
+        CASTLING_SAFE[index] = Bitboards.bit(kingSquare) | Bitboards.bit(kingSquare + step) | Bitboards.bit(kingSquare + 2 * step);
+    }
+
+    /**
+     * Compute checkers, pinned pieces and check mask of the side to move
+     */
+    private void prepare(Position position, int[] moves) {
+        this.position = position;
+        this.moves = moves;
+        this.count = 0;
+        us = position.getSideToMove();
+        them = opposite(us);
+        kingSquare = position.getKingSquare(us);
+        ours = position.getColorPieces(us);
+        theirs = position.getColorPieces(them);
+        occupied = position.getOccupied();
+        if (kingSquare == Bitboards.NO_SQUARE) return;
+
+        checkers = position.attackersTo(kingSquare, occupied) & theirs;
+        checkMask = Bitboards.FULL;
+        if (checkers != 0) {
+            int checker = Bitboards.lowestSquare(checkers);
+            checkMask = SliderAttacks.between(kingSquare, checker) | Bitboards.bit(checker);
+        }
+
+        // sliders aiming at the king through exactly one own piece pin that piece
+        pinned = 0L;
+        long queens = position.getPieces(them, QUEEN);
+        long snipers = (SliderAttacks.rookAttacks(kingSquare, theirs) & (position.getPieces(them, ROOK) | queens))
+                | (SliderAttacks.bishopAttacks(kingSquare, theirs) & (position.getPieces(them, BISHOP) | queens));
+        for (; snipers != 0; snipers &= snipers - 1) {
+            long blockers = SliderAttacks.between(kingSquare, Bitboards.lowestSquare(snipers)) & occupied;
+            if (Bitboards.count(blockers) == 1 && (blockers & ours) != 0) {
+                pinned |= blockers;
+            }
+        }
+    }
+
+    /**
+     * Add legal moves of all own pieces of given non king type, each type walks its piece list in its own loop
+     */
+    private void addPieceMoves(int type) {
+        int piece = make(us, type);
+        int[] squares = position.getPieceSquares(piece);
+        int pieceCount = position.getPieceCount(piece);
+        long targets = ~ours & checkMask & targetFilter;
+        switch (type) {
+            case PAWN -> {
+                for (int index = 0; index < pieceCount; index++) {
+                    addPawnMoves(squares[index], allowed(squares[index]));
+                }
+            }
+            case KNIGHT -> {
+                for (int index = 0; index < pieceCount; index++) {
+                    int from = squares[index];
+                    if (!Bitboards.contains(pinned, from)) { // a pinned knight can never stay on the pin line
+                        addMoves(from, LeaperAttacks.knightAttacks(from) & targets);
+                    }
+                }
+            }
+            case BISHOP -> {
+                for (int index = 0; index < pieceCount; index++) {
+                    int from = squares[index];
+                    addMoves(from, SliderAttacks.bishopAttacks(from, occupied) & targets & allowed(from));
+                }
+            }
+            case ROOK -> {
+                for (int index = 0; index < pieceCount; index++) {
+                    int from = squares[index];
+                    addMoves(from, SliderAttacks.rookAttacks(from, occupied) & targets & allowed(from));
+                }
+            }
+            case QUEEN -> {
+                for (int index = 0; index < pieceCount; index++) {
+                    int from = squares[index];
+                    addMoves(from, SliderAttacks.queenAttacks(from, occupied) & targets & allowed(from));
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the squares the own piece on given square may land on without exposing its king
+     */
+    private long allowed(int from) {
+        return Bitboards.contains(pinned, from) ? checkMask & SliderAttacks.line(kingSquare, from) : checkMask;
+    }
+
+    /**
+     * Add legal king steps, squares behind the king on a checking slider's line are attacked once the king steps away
+     */
+    private void addKingMoves() {
+        long danger = position.getAttacks(them);
+        long sliderCheckers = checkers & ~position.getPieces(them, PAWN) & ~position.getPieces(them, KNIGHT);
+        for (; sliderCheckers != 0; sliderCheckers &= sliderCheckers - 1) {
+            int checker = Bitboards.lowestSquare(sliderCheckers);
+            danger |= SliderAttacks.line(kingSquare, checker) & ~Bitboards.bit(checker);
+        }
+        addMoves(kingSquare, LeaperAttacks.kingAttacks(kingSquare) & ~ours & ~danger & targetFilter);
+    }
+
+    /**
+     * Add castling move to given side if it is legal
+     */
+    private void addCastlingMove(boolean kingSide) {
+        if (canCastle(position, us, kingSide)) {
+            int to = kingSquare + (kingSide ? 2 : -2);
+            moves[count++] = Move.make(kingSquare, to, kingSide ? Move.KING_CASTLE : Move.QUEEN_CASTLE);
+        }
+    }
+
+    /**
+     * Add legal pushes, captures, promotions and en passant of the pawn on given square
+     */
+    private void addPawnMoves(int from, long allowed) {
+        int forward = LeaperAttacks.pawnForward(us);
+        int startRow = (us == WHITE) ? Bitboards.BOARD_SIZE - 2 : 1;
+
+        int to = from + forward;
+        int lastRow = (us == WHITE) ? 0 : Bitboards.BOARD_SIZE - 1;
+        boolean promotion = Bitboards.getRow(to) == lastRow; // promotions count as captures
+        if (position.isEmpty(to) && (kind == ALL_MOVES || (kind == CAPTURES) == promotion)) {
+            if (Bitboards.contains(allowed, to)) {
+                addPawnMove(from, to, false);
+            }
+            int doubleTo = to + forward;
+            if (kind != CAPTURES && Bitboards.getRow(from) == startRow && position.isEmpty(doubleTo) && Bitboards.contains(allowed, doubleTo)) {
+                moves[count++] = Move.make(from, doubleTo, Move.DOUBLE_PAWN_PUSH);
+            }
+        }
+        if (kind == QUIETS) return;
+
+        long captures = LeaperAttacks.pawnAttacks(us, from) & theirs & allowed;
+        for (; captures != 0; captures &= captures - 1) {
+            addPawnMove(from, Bitboards.lowestSquare(captures), true);
+        }
+
+        int enPassantSquare = position.getEnPassantSquare();
+        if (enPassantSquare != Bitboards.NO_SQUARE && Bitboards.contains(LeaperAttacks.pawnAttacks(us, from), enPassantSquare)
+                && isLegalEnPassant(from, enPassantSquare)) {
+            moves[count++] = Move.make(from, enPassantSquare, Move.EN_PASSANT);
+        }
+    }
+
+    /**
+     * Check en passant by replaying it on the occupancy, it removes two pieces from one row so pins don't cover it
+     */
+    private boolean isLegalEnPassant(int from, int to) {
+        int capturedSquare = to - LeaperAttacks.pawnForward(us);
+        if (position.getPiece(capturedSquare) != make(them, PAWN)) return false;
+        long capturedBit = Bitboards.bit(capturedSquare);
+        long occupiedAfter = (occupied ^ Bitboards.bit(from) ^ capturedBit) | Bitboards.bit(to);
+        return (position.attackersTo(kingSquare, occupiedAfter) & theirs & ~capturedBit) == 0;
+    }
+
+    /**
+     * Add pawn move, or all 4 promotions when it reaches the last row
+     */
+    private void addPawnMove(int from, int to, boolean capture) {
+        int lastRow = (us == WHITE) ? 0 : Bitboards.BOARD_SIZE - 1;
+        if (Bitboards.getRow(to) == lastRow) {
+            for (int type = QUEEN; type >= KNIGHT; type--) {
+                moves[count++] = Move.makePromotion(from, to, type, capture);
+            }
+        } else {
+            moves[count++] = Move.make(from, to, capture ? Move.CAPTURE : Move.QUIET);
+        }
+    }
+
+    /**
+     * Add a move from given square to each target square
+     */
+    private void addMoves(int from, long targets) {
+        for (; targets != 0; targets &= targets - 1) {
+            addMove(from, Bitboards.lowestSquare(targets));
+        }
+    }
+
+    /**
+     * Add quiet or capture move by the target square content
+     */
+    private void addMove(int from, int to) {
+        moves[count++] = Move.make(from, to, Bitboards.contains(theirs, to) ? Move.CAPTURE : Move.QUIET);
+    }
+}
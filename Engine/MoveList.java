@@ -0,0 +1,107 @@
+package Engine;
+
+public final class MoveList {
+    private final int[] moves = new int[MoveGenerator.MAX_MOVES];
+    private int size = 0;
+    private int cursor = 0; // next move returned by the iteration
+
+    /**
+     * Get move at given index
+     */
+    public int get(int index) {
+        return moves[index];
+    }
+
+    /**
+     * Swap the moves at given indexes
+     */
+    public void swap(int first, int second) {
+        int move = moves[first];
+        moves[first] = moves[second];
+        moves[second] = move;
+    }
+
+    /**
+     * Swap the best scored move between given index and end into given index and return it, given scores parallel
+     * to the list and swapped along (selection sort step, the first moves often cut off so the rest are never sorted)
+     */
+    public int pickBest(int[] scores, int index, int end) {
+        int best = index;
+        for (int other = index + 1; other < end; other++) {
+            if (scores[other] > scores[best]) best = other;
+        }
+        if (best != index) {
+            swap(index, best);
+            int score = scores[index];
+            scores[index] = scores[best];
+            scores[best] = score;
+        }
+        return moves[index];
+    }
+
+    /**
+     * Check if list contains given move
+     */
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get amount of moves in list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if list has no moves
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    // Iteration:
+
+    /**
+     * Start iterating the list from its first move
+     */
+    public void rewind() {
+        cursor = 0;
+    }
+
+    /**
+     * Check if iteration has more moves
+     */
+    public boolean hasNext() {
+        return cursor < size;
+    }
+
+    /**
+     * Get next move of the iteration
+     */
+    public int next() {
+        return moves[cursor++];
+    }
+
+
+    // Generator access:
+
+    /**
+     * Get the list's buffer for the generator to fill
+     */
+    int[] getBuffer() {
+        return moves;
+    }
+
+    /**
+     * Set amount of moves the generator wrote into the buffer
+     */
+    void setSize(int size) {
+        this.size = size;
+        this.cursor = 0;
+    }
+}
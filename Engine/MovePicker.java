@@ -0,0 +1,191 @@
+package Engine;
+
+import static Engine.PieceType.*;
+
+public class MovePicker {
+
+    // Stages, in the order the moves are returned (each list is generated when its stage starts, after a cutoff never):
+    private static final int TABLE_MOVE = 0;
+    private static final int GENERATE_CAPTURES = 1;
+    private static final int GOOD_CAPTURES = 2; // captures that don't lose material, most valuable victim first
+    private static final int FIRST_KILLER = 3;
+    private static final int SECOND_KILLER = 4;
+    private static final int COUNTER_MOVE = 5;
+    private static final int GENERATE_QUIETS = 6;
+    private static final int QUIETS = 7; // by history score
+    private static final int BAD_CAPTURES = 8; // captures that lose material by the static exchange
+    private static final int GENERATE_EVASIONS = 9; // in check all legal moves are picked as one list
+    private static final int EVASIONS = 10;
+    private static final int DONE = 11;
+
+    private static final int EVASION_CAPTURE_BONUS = 1 << 24; // evasions that capture come before the history scored ones
+
+    private final MoveGenerator generator;
+    private final MoveList captures = new MoveList(); // also holds the evasions
+    private final MoveList quiets = new MoveList();
+    private final int[] scores = new int[MoveGenerator.MAX_MOVES]; // ordering score of the current stage's moves
+    private final int[] badCaptures = new int[MoveGenerator.MAX_MOVES];
+    private int badCaptureCount;
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES]; // buffer of the losing capture checks
+
+    // Picking state of the current node:
+    private Position position;
+    private int tableMove;
+    private int firstKiller;
+    private int secondKiller;
+    private int counterMove;
+    private int[][] history; // quiet move scores of the side to move by from and to square
+    private int stage;
+    private int index; // next move of the current stage's list
+
+    /**
+     * Create picker that generates its moves with given generator
+     */
+    public MovePicker(MoveGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Start picking the moves of given position: the table move, captures, killers, counter move, quiet moves by given
+     * history scores and the losing captures last (Move.NONE for a missing hint move)
+     */
+    public void reset(Position position, int tableMove, int firstKiller, int secondKiller, int counterMove, int[][] history) {
+        this.position = position;
+        this.tableMove = tableMove;
+        this.firstKiller = firstKiller;
+        this.secondKiller = secondKiller;
+        this.counterMove = counterMove;
+        this.history = history;
+        this.badCaptureCount = 0;
+        this.index = 0;
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        this.stage = (tableMove != Move.NONE) ? TABLE_MOVE : (inCheck ? GENERATE_EVASIONS : GENERATE_CAPTURES);
+    }
+
+    /**
+     * Get the next legal move, Move.NONE when all moves were picked
+     */
+    public int next() {
+        while (true) {
+            switch (stage) {
+                case TABLE_MOVE -> {
+                    stage = position.isInCheck(position.getSideToMove()) ? GENERATE_EVASIONS : GENERATE_CAPTURES;
+                    if (generator.isLegal(position, tableMove)) return tableMove; // the table may hold another position's move
+                    tableMove = Move.NONE;
+                }
+                case GENERATE_CAPTURES -> {
+                    generator.generateCaptures(position, captures);
+                    for (int move = 0; move < captures.size(); move++) {
+                        scores[move] = mvvLva(captures.get(move));
+                    }
+                    index = 0;
+                    stage = GOOD_CAPTURES;
+                }
+                case GOOD_CAPTURES -> {
+                    while (index < captures.size()) {
+                        int move = captures.pickBest(scores, index++, captures.size());
+                        if (move == tableMove) continue;
+                        if (!isWinningOrEven(move)) {
+                            badCaptures[badCaptureCount++] = move;
+                            continue;
+                        }
+                        return move;
+                    }
+                    stage = FIRST_KILLER;
+                }
+                case FIRST_KILLER -> {
+                    stage = SECOND_KILLER;
+                    if (isUsableHint(firstKiller)) return firstKiller;
+                }
+                case SECOND_KILLER -> {
+                    stage = COUNTER_MOVE;
+                    if (secondKiller != firstKiller && isUsableHint(secondKiller)) return secondKiller;
+                }
+                case COUNTER_MOVE -> {
+                    stage = GENERATE_QUIETS;
+                    if (counterMove != firstKiller && counterMove != secondKiller && isUsableHint(counterMove)) return counterMove;
+                }
+                case GENERATE_QUIETS -> {
+                    generator.generateQuiets(position, quiets);
+                    for (int move = 0; move < quiets.size(); move++) {
+                        scores[move] = historyScore(quiets.get(move));
+                    }
+                    index = 0;
+                    stage = QUIETS;
+                }
+                case QUIETS -> {
+                    while (index < quiets.size()) {
+                        int move = quiets.pickBest(scores, index++, quiets.size());
+                        if (move != tableMove && move != firstKiller && move != secondKiller && move != counterMove) return move;
+                    }
+                    index = 0;
+                    stage = BAD_CAPTURES;
+                }
+                case BAD_CAPTURES -> {
+                    if (index < badCaptureCount) return badCaptures[index++];
+                    stage = DONE;
+                }
+                case GENERATE_EVASIONS -> {
+                    generator.generateCaptures(position, captures); // every legal move when in check
+                    for (int move = 0; move < captures.size(); move++) {
+                        int evasion = captures.get(move);
+                        boolean capture = Move.isCapture(evasion) || Move.isPromotion(evasion);
+                        scores[move] = capture ? EVASION_CAPTURE_BONUS + mvvLva(evasion) : historyScore(evasion);
+                    }
+                    index = 0;
+                    stage = EVASIONS;
+                }
+                case EVASIONS -> {
+                    while (index < captures.size()) {
+                        int move = captures.pickBest(scores, index++, captures.size());
+                        if (move != tableMove) return move;
+                    }
+                    stage = DONE;
+                }
+                default -> {
+                    return Move.NONE;
+                }
+            }
+        }
+    }
+
+
+    // Ordering helpers:
+
+    /**
+     * Score capture by most valuable victim, then least valuable attacker (promotions add the promoted piece's gain)
+     */
+    private int mvvLva(int move) {
+        int victim = (Move.getFlags(move) == Move.EN_PASSANT) ? PAWN : typeOf(position.getPiece(Move.getTo(move)));
+        int score = (victim == NONE ? 0 : Evaluation.PIECE_VALUES[victim] * TYPES) - typeOf(position.getPiece(Move.getFrom(move)));
+        if (Move.isPromotion(move)) {
+            score += (Evaluation.PIECE_VALUES[Move.getPromotionType(move)] - Evaluation.PIECE_VALUES[PAWN]) * TYPES;
+        }
+        return score;
+    }
+
+    /**
+     * Check if capture doesn't lose material, only exchanges where the attacker is worth more than the victim need the SEE
+     */
+    private boolean isWinningOrEven(int move) {
+        int attacker = typeOf(position.getPiece(Move.getFrom(move)));
+        int victim = (Move.getFlags(move) == Move.EN_PASSANT) ? PAWN : typeOf(position.getPiece(Move.getTo(move)));
+        if (victim != NONE && Evaluation.PIECE_VALUES[victim] >= Evaluation.PIECE_VALUES[attacker] && attacker != KING) return true;
+        return StaticExchange.evaluate(position, move, exchangeGains) >= 0;
+    }
+
+    /**
+     * Get history score of quiet move
+     */
+    private int historyScore(int move) {
+        return history[Move.getFrom(move)][Move.getTo(move)];
+    }
+
+    /**
+     * Check if killer or counter move hint is a legal quiet move here that wasn't returned as the table move
+     */
+    private boolean isUsableHint(int move) {
+        return move != Move.NONE && move != tableMove && !Move.isCapture(move) && !Move.isPromotion(move)
+                && generator.isLegal(position, move);
+    }
+}
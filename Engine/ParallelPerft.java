@@ -0,0 +1,164 @@
+package Engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class ParallelPerft {
+    public static final int DEFAULT_SPLIT_DEPTH = 2; // split the tree at the root moves and their replies
+    private static final int WARM_UP_DEPTH = 4; // compiles the hot code before the timed runs
+
+    private final ForkJoinPool pool;
+    private final int threads;
+    private final int splitDepth;
+
+    // Each worker thread counts with its own generator, tasks only share their copied positions
+    private final ThreadLocal<Perft> threadPerft;
+    private final ThreadLocal<MoveGenerator> threadGenerator = ThreadLocal.withInitial(MoveGenerator::new);
+    private final Map<String, long[]> threadStats = new ConcurrentHashMap<>(); // thread name -> {nodes, nanos}
+
+    /**
+     * Create parallel perft on a pool of given thread count, splitting the tree to given depth (1 = root moves only)
+     */
+    public ParallelPerft(int threads, int splitDepth) {
+        this(threads, splitDepth, null);
+    }
+
+    /**
+     * Create parallel perft whose threads all share given subtree count table (null counts every subtree)
+     */
+    public ParallelPerft(int threads, int splitDepth, PerftTable table) {
+        this.pool = new ForkJoinPool(threads);
+        this.threads = threads;
+        this.splitDepth = Math.max(1, splitDepth);
+        this.threadPerft = ThreadLocal.withInitial(() -> new Perft(table));
+    }
+
+
+    // Node counting:
+
+    /**
+     * Count the leaf nodes of the legal move tree to given depth, given position is left untouched
+     */
+    public long perft(Position position, int depth) {
+        return pool.invoke(new PerftTask(new Position(position), Move.NONE, depth, 0));
+    }
+
+    /**
+     * Run every reference position sequentially and in parallel, print speedup, efficiency and per thread rates
+     */
+    public boolean runReferencePositions() {
+        Perft sequential = new Perft();
+        sequential.perft(Position.startPosition(), WARM_UP_DEPTH);
+        perft(Position.startPosition(), WARM_UP_DEPTH);
+        threadStats.clear();
+        boolean passed = true;
+        long totalSequentialTime = 0;
+        long totalParallelTime = 0;
+        for (String[] reference : Perft.REFERENCE_POSITIONS) {
+            int depth = Integer.parseInt(reference[1]);
+            long expected = Long.parseLong(reference[2]);
+            Position position = Position.fromFen(reference[0]);
+
+            long start = System.nanoTime();
+            long sequentialNodes = sequential.perft(position, depth);
+            long sequentialTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            long parallelNodes = perft(position, depth);
+            long parallelTime = System.nanoTime() - start;
+            totalSequentialTime += sequentialTime;
+            totalParallelTime += parallelTime;
+
+            boolean match = sequentialNodes == expected && parallelNodes == expected;
+            passed &= match;
+            System.out.println((match ? "OK   " : "FAIL ") + reference[0] + " depth " + depth + ": " + parallelNodes
+                    + (match ? "" : " (expected " + expected + ", sequential " + sequentialNodes + ")")
+                    + ", " + Perft.nodesPerSecond(parallelNodes, parallelTime) + " nps, " + speedupInfo(sequentialTime, parallelTime));
+        }
+        System.out.println("Total: " + speedupInfo(totalSequentialTime, totalParallelTime));
+
+        // the busy time of each thread gives its own counting rate
+        for (Map.Entry<String, long[]> entry : new TreeMap<>(threadStats).entrySet()) {
+            long[] stats = entry.getValue();
+            System.out.println(entry.getKey() + ": " + stats[0] + " nodes, " + Perft.nodesPerSecond(stats[0], stats[1]) + " nps");
+        }
+        return passed;
+    }
+
+    /**
+     * Close the thread pool
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Get speedup of parallel time over sequential time and its efficiency per thread
+     */
+    private String speedupInfo(long sequentialTime, long parallelTime) {
+        double speedup = (double) sequentialTime / Math.max(1, parallelTime);
+        return String.format("speedup %.2fx on %d threads, efficiency %.0f%%", speedup, threads, 100 * speedup / threads);
+    }
+
+
+    // Tasks:
+
+    /**
+     * Counts the subtree under one move on its own position copy, forking its own moves while above the split depth
+     */
+    private class PerftTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final Position position;
+        private final int move;
+        private final int depth; // depth left after the move
+        private final int level;
+
+        private PerftTask(Position position, int move, int depth, int level) {
+            this.position = position;
+            this.move = move;
+            this.depth = depth;
+            this.level = level;
+        }
+
+        @Override
+        protected Long compute() {
+            if (move != Move.NONE) {
+                position.makeMove(move);
+            }
+            if (level >= splitDepth || depth <= 1) {
+                return countSubtree();
+            }
+
+            MoveList moves = new MoveList();
+            threadGenerator.get().generateLegalMoves(position, moves);
+            List<PerftTask> subtasks = new ArrayList<>(moves.size());
+            while (moves.hasNext()) {
+                subtasks.add(new PerftTask(new Position(position), moves.next(), depth - 1, level + 1));
+            }
+            invokeAll(subtasks);
+
+            long nodes = 0;
+            for (PerftTask subtask : subtasks) { // summed in move order, the total doesn't depend on scheduling
+                nodes += subtask.join();
+            }
+            return nodes;
+        }
+
+        /**
+         * Count the subtree sequentially and add it to the current thread's stats
+         */
+        private long countSubtree() {
+            long start = System.nanoTime();
+            long nodes = threadPerft.get().perft(position, depth);
+            long[] stats = threadStats.computeIfAbsent(Thread.currentThread().getName(), name -> new long[2]);
+            stats[0] += nodes;
+            stats[1] += System.nanoTime() - start;
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package Engine;
+
+public class ParallelSearch {
+    public static final int DEFAULT_BENCH_DEPTH = 7;
+
+    // Lazy SMP: every thread searches the whole tree from the root with its own position copy, generator and
+    // search state, they only share the lock-free transposition table and speed each other up through it
+    private final Search[] searches; // index 0 is the main search, the others are helpers
+    private final TranspositionTable table;
+
+    /**
+     * Create Lazy SMP search of given thread count whose threads share given table
+     */
+    public ParallelSearch(int threads, TranspositionTable table) {
+        this.table = table;
+        this.searches = new Search[Math.max(1, threads)];
+        for (int index = 0; index < searches.length; index++) {
+            searches[index] = new Search(table, index);
+        }
+    }
+
+    /**
+     * Time to fixed depth on each thread count from 1 up to given amount, doubling ("[depth] [max threads] [table MB] [fen]")
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int depth = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_BENCH_DEPTH;
+        int maxThreads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int sizeMb = (args.length > 2) ? Integer.parseInt(args[2]) : TranspositionTable.DEFAULT_SIZE_MB;
+        String fen = (args.length > 3) ? args[3] : "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+
+        new ParallelSearch(1, new TranspositionTable(sizeMb)).findBestMove(Position.fromFen(fen), depth - 2, 0); // warm up
+        TranspositionTable table = new TranspositionTable(sizeMb);
+        long singleThreadTime = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            table.clear(); // every thread count starts from an empty table
+            table.resetStats();
+            ParallelSearch search = new ParallelSearch(threads, table);
+            long start = System.nanoTime();
+            int move = search.findBestMove(Position.fromFen(fen), depth, 0);
+            long time = System.nanoTime() - start;
+            if (threads == 1) singleThreadTime = time;
+            System.out.printf("%2d threads: depth %d best %s score %d, %d ms to depth, %d nodes (%d nps), speedup %.2fx, %.1f%% first move cutoffs, %.1f%% table hits%n",
+                    threads, search.getCompletedDepth(), Move.toString(move), search.getBestScore(), time / 1_000_000,
+                    search.getNodes(), Perft.nodesPerSecond(search.getNodes(), time), (double) singleThreadTime / time,
+                    search.getFirstMoveCutoffRate(), table.getHitRate());
+        }
+    }
+
+
+    // Search:
+
+    /**
+     * Search given position on all threads to given depth or until given milliseconds ran out (0 for no time limit),
+     * return the best move of the thread that completed the deepest iteration (the main thread on ties)
+     */
+    public int findBestMove(Position position, int maxDepth, long timeMillis) throws InterruptedException {
+        table.newSearch();
+        for (Search search : searches) {
+            search.clearStop(); // before any thread starts, the stop below must reach helpers that haven't started yet
+        }
+        Thread[] helpers = new Thread[searches.length - 1];
+        for (int index = 1; index < searches.length; index++) {
+            Search helper = searches[index];
+            Position helperPosition = new Position(position);
+            helpers[index - 1] = new Thread(() -> helper.search(helperPosition, maxDepth, timeMillis), "Search helper " + index);
+            helpers[index - 1].setDaemon(true);
+            helpers[index - 1].start();
+        }
+
+        searches[0].search(position, maxDepth, timeMillis);
+        for (Search helper : searches) {
+            helper.stop(); // the main search decides when to stop, helpers keep their last completed iteration
+        }
+        for (Thread helper : helpers) {
+            helper.join();
+        }
+        return getBestSearch().getBestMove();
+    }
+
+    /**
+     * Ask all threads to stop as soon as possible
+     */
+    public void stop() {
+        for (Search search : searches) {
+            search.stop();
+        }
+    }
+
+    /**
+     * Get the thread search with the deepest completed iteration, the main search on ties
+     */
+    private Search getBestSearch() {
+        Search best = searches[0];
+        for (Search search : searches) {
+            if (search.getCompletedDepth() > best.getCompletedDepth() && search.getBestMove() != Move.NONE) {
+                best = search;
+            }
+        }
+        return best;
+    }
+
+
+    // Settings:
+
+    /**
+     * Set if the fifty move rule draws on all threads, otherwise only the seventy-five move rule does (Game's setting)
+     */
+    public void setFiftyMoveDraw(boolean fiftyMoveDraw) {
+        for (Search search : searches) {
+            search.setFiftyMoveDraw(fiftyMoveDraw);
+        }
+    }
+
+
+    // Getters:
+
+    /**
+     * Get the score of the chosen best move in centipawns, from the side to move's point of view
+     */
+    public int getBestScore() {
+        return getBestSearch().getBestScore();
+    }
+
+    /**
+     * Get the depth of the chosen best move's iteration
+     */
+    public int getCompletedDepth() {
+        return getBestSearch().getCompletedDepth();
+    }
+
+    /**
+     * Get amount of positions searched by all threads in the last search
+     */
+    public long getNodes() {
+        long nodes = 0;
+        for (Search search : searches) {
+            nodes += search.getNodes();
+        }
+        return nodes;
+    }
+
+    /**
+     * Get percentage of all threads' beta cutoffs in the last search that the first searched move made
+     */
+    public double getFirstMoveCutoffRate() {
+        long cutoffs = 0;
+        long firstMoveCutoffs = 0;
+        for (Search search : searches) {
+            cutoffs += search.getCutoffs();
+            firstMoveCutoffs += search.getFirstMoveCutoffs();
+        }
+        return cutoffs == 0 ? 0 : 100.0 * firstMoveCutoffs / cutoffs;
+    }
+
+    /**
+     * Get amount of search threads
+     */
+    public int getThreads() {
+        return searches.length;
+    }
+
+    /**
+     * Get the shared transposition table
+     */
+    public TranspositionTable getTable() {
+        return table;
+    }
+}
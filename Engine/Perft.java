@@ -0,0 +1,173 @@
+package Engine;
+
+import java.util.Arrays;
+
+public class Perft {
+
+    // Reference positions (FEN, depth, known node count at that depth):
+    static final String[][] REFERENCE_POSITIONS = {
+            {"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", "5", "4865609"}, // start position
+            {"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", "4", "4085603"}, // Kiwipete
+            {"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", "5", "674624"}, // en passant pins
+            {"r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", "4", "422333"}, // promotions & castling
+            {"rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", "4", "2103487"}, // promotion capture
+            {"3k4/3p4/8/K1P4r/8/8/8/8 b - - 0 1", "6", "1134888"}, // illegal en passant, pinned on row
+            {"8/8/1k6/2b5/2pP4/8/5K2/8 b - d3 0 1", "6", "1440467"}, // en passant capture gives check
+            {"r3k2r/1b4bq/8/8/8/8/7B/R3K2R w KQkq - 0 1", "4", "1274206"}, // castling through attacked squares
+            {"2K2r2/4P3/8/8/8/8/8/3k4 w - - 0 1", "6", "3821001"}, // promote out of check
+            {"8/P1k5/K7/8/8/8/8/8 w - - 0 1", "6", "92683"} // under promotion gives check
+    };
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final PerftTable table; // counts of transposed subtrees, null counts every subtree
+
+    /**
+     * Create perft that counts every subtree
+     */
+    public Perft() {
+        this(null);
+    }
+
+    /**
+     * Create perft that reuses subtree counts stored in given table (may be shared with other threads)
+     */
+    public Perft(PerftTable table) {
+        this.table = table;
+    }
+
+    /**
+     * Run the reference positions, in parallel with "parallel [threads] [split depth]",
+     * hashed to given depth with "hashed <depth> [table MB] [threads] [fen]",
+     * or divide given FEN to given depth with "divide <depth> [fen]"
+     */
+    public static void main(String[] args) {
+        Perft perft = new Perft();
+        if (args.length >= 2 && args[0].equals("hashed")) {
+            runHashed(args);
+        } else if (args.length >= 1 && args[0].equals("parallel")) {
+            int threads = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+            int splitDepth = (args.length > 2) ? Integer.parseInt(args[2]) : ParallelPerft.DEFAULT_SPLIT_DEPTH;
+            ParallelPerft parallelPerft = new ParallelPerft(threads, splitDepth);
+            boolean passed = parallelPerft.runReferencePositions();
+            parallelPerft.shutdown();
+            System.exit(passed ? 0 : 1);
+        } else if (args.length >= 2 && args[0].equals("divide")) {
+            String fen = (args.length > 2) ? String.join(" ", Arrays.copyOfRange(args, 2, args.length)) : REFERENCE_POSITIONS[0][0];
+            perft.divide(Position.fromFen(fen), Integer.parseInt(args[1]));
+        } else {
+            System.exit(perft.runReferencePositions() ? 0 : 1);
+        }
+    }
+
+    /**
+     * Count given FEN (start position by default) with a table shared by all threads, print rate and hit rate
+     */
+    private static void runHashed(String[] args) {
+        int depth = Integer.parseInt(args[1]);
+        int sizeMb = (args.length > 2) ? Integer.parseInt(args[2]) : PerftTable.DEFAULT_SIZE_MB;
+        int threads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        String fen = (args.length > 4) ? String.join(" ", Arrays.copyOfRange(args, 4, args.length)) : REFERENCE_POSITIONS[0][0];
+
+        PerftTable table = new PerftTable(sizeMb);
+        ParallelPerft parallelPerft = new ParallelPerft(threads, ParallelPerft.DEFAULT_SPLIT_DEPTH, table);
+        long start = System.nanoTime();
+        long nodes = parallelPerft.perft(Position.fromFen(fen), depth);
+        long time = System.nanoTime() - start;
+        parallelPerft.shutdown();
+
+        System.out.println(fen + " depth " + depth + ": " + nodes + " nodes in " + time / 1_000_000 + " ms, "
+                + nodesPerSecond(nodes, time) + " nps");
+        System.out.printf("Table: %d MB, %d probes, %.1f%% hits%n", table.getSizeMb(), table.getProbes(), table.getHitRate());
+    }
+
+
+    // Node counting:
+
+    /**
+     * Count the leaf nodes of the legal move tree to given depth
+     */
+    public long perft(Position position, int depth) {
+        return perft(position, depth, 0);
+    }
+
+    /**
+     * Print the node count under each root move and their total
+     */
+    public long divide(Position position, int depth) {
+        long start = System.nanoTime();
+        long total = 0;
+        MoveList rootMoves = moveGenerator.generateLegalMoves(position, 0);
+        while (rootMoves.hasNext()) {
+            int move = rootMoves.next();
+            position.makeMove(move);
+            long nodes = (depth > 1) ? perft(position, depth - 1, 1) : 1;
+            position.unmakeMove(move);
+            System.out.println(Move.toString(move) + ": " + nodes);
+            total += nodes;
+        }
+        System.out.println();
+        System.out.println("Moves: " + rootMoves.size());
+        System.out.println("Nodes: " + total + " (" + nodesPerSecond(total, System.nanoTime() - start) + " nps)");
+        return total;
+    }
+
+    /**
+     * Run every reference position and compare with its known node count, returns true if all match
+     */
+    public boolean runReferencePositions() {
+        boolean passed = true;
+        long totalNodes = 0;
+        long totalTime = 0;
+        for (String[] reference : REFERENCE_POSITIONS) {
+            int depth = Integer.parseInt(reference[1]);
+            long expected = Long.parseLong(reference[2]);
+
+            long start = System.nanoTime();
+            long nodes = perft(Position.fromFen(reference[0]), depth);
+            long time = System.nanoTime() - start;
+            totalNodes += nodes;
+            totalTime += time;
+
+            boolean match = nodes == expected;
+            passed &= match;
+            System.out.println((match ? "OK   " : "FAIL ") + reference[0] + " depth " + depth + ": " + nodes
+                    + (match ? "" : " (expected " + expected + ")") + ", " + nodesPerSecond(nodes, time) + " nps");
+        }
+        System.out.println("Total: " + totalNodes + " nodes, " + nodesPerSecond(totalNodes, totalTime) + " nps");
+        return passed;
+    }
+
+    /**
+     * Count leaf nodes using the move list of given ply, the last ply counts its moves without playing them,
+     * subtrees above it are looked up in the table first
+     */
+    private long perft(Position position, int depth, int ply) {
+        if (depth == 0) return 1;
+        if (table != null && depth > 1) {
+            long stored = table.probe(position.getKey(), depth);
+            if (stored != PerftTable.MISS) return stored;
+        }
+        MoveList moves = moveGenerator.generateLegalMoves(position, ply);
+        if (depth == 1) return moves.size();
+
+        long nodes = 0;
+        while (moves.hasNext()) {
+            int move = moves.next();
+            position.makeMove(move);
+            nodes += perft(position, depth - 1, ply + 1);
+            position.unmakeMove(move);
+        }
+        if (table != null) {
+            table.store(position.getKey(), depth, nodes);
+        }
+        return nodes;
+    }
+
+    /**
+     * Get nodes per second of given node count and time in nanoseconds (in floating point, deep perft counts overflow
+     * a long once multiplied by a billion)
+     */
+    static long nodesPerSecond(long nodes, long nanos) {
+        return nanos == 0 ? 0 : (long) (nodes * 1e9 / nanos);
+    }
+}
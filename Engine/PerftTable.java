@@ -0,0 +1,38 @@
+package Engine;
+
+public class PerftTable extends LockFreeTable {
+    public static final int DEFAULT_SIZE_MB = 64;
+    public static final long MISS = -1;
+
+    // Data layout: node count << 8 | depth, one entry per bucket
+    private static final int DEPTH_BITS = 8;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+
+    /**
+     * Create table of given size in megabytes (rounded down to a power of two entries)
+     */
+    public PerftTable(int sizeMb) {
+        super(sizeMb, 1);
+    }
+
+
+    // Probe & store:
+
+    /**
+     * Get node count stored for given key and depth, MISS if there is none
+     */
+    public long probe(long key, int depth) {
+        int entry = bucket(key);
+        long data = getData(entry);
+        boolean hit = holdsKey(entry, key, data) && (data & DEPTH_MASK) == depth;
+        countProbe(hit);
+        return hit ? data >>> DEPTH_BITS : MISS;
+    }
+
+    /**
+     * Store node count of given key and depth, replacing whatever was in its slot
+     */
+    public void store(long key, int depth, long nodes) {
+        write(bucket(key), key, (nodes << DEPTH_BITS) | depth);
+    }
+}
@@ -0,0 +1,77 @@
+package Engine;
+
+public final class PieceType {
+    private PieceType() {
+    }
+
+    // Colors:
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    // Piece types:
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+    public static final int TYPES = 6;
+
+    // Piece codes (color * TYPES + type), used as bitboard index
+    public static final int NONE = -1;
+    public static final int PIECES = 12;
+
+    private static final String DENOTES = "PNBRQK";
+
+    /**
+     * Get piece code by given color and type
+     */
+    public static int make(int color, int type) {
+        return color * TYPES + type;
+    }
+
+    /**
+     * Get color of given piece code
+     */
+    public static int colorOf(int piece) {
+        return piece / TYPES;
+    }
+
+    /**
+     * Get type of given piece code
+     */
+    public static int typeOf(int piece) {
+        return piece % TYPES;
+    }
+
+    /**
+     * Get the opposite color index
+     */
+    public static int opposite(int color) {
+        return color ^ 1;
+    }
+
+    /**
+     * Get piece's denote (short piece name for notation) by given type
+     */
+    public static char denote(int type) {
+        return DENOTES.charAt(type);
+    }
+
+    /**
+     * Get board notation char of given piece code (upper case for white, lower case for black)
+     */
+    public static char notation(int piece) {
+        char denote = denote(typeOf(piece));
+        return colorOf(piece) == WHITE ? denote : Character.toLowerCase(denote);
+    }
+
+    /**
+     * Get piece code of given board notation char, NONE if it isn't a piece
+     */
+    public static int fromNotation(char notation) {
+        int type = DENOTES.indexOf(Character.toUpperCase(notation));
+        if (type < 0) return NONE;
+        return make(Character.isUpperCase(notation) ? WHITE : BLACK, type);
+    }
+}
@@ -0,0 +1,691 @@
+package Engine;
+
+import java.util.Arrays;
+
+import static Engine.PieceType.*;
+
+public class Position {
+
+    // Castling rights bits:
+    public static final int WHITE_KING_SIDE = 1;
+    public static final int WHITE_QUEEN_SIDE = 2;
+    public static final int BLACK_KING_SIDE = 4;
+    public static final int BLACK_QUEEN_SIDE = 8;
+    public static final int ALL_CASTLING = 15;
+    private static final String CASTLING_DENOTES = "KQkq"; // FEN char of each castling rights bit
+
+    // Castling rights kept after a move from or to each square (king and rook squares clear their rights)
+    private static final int[] CASTLING_MASK = new int[Bitboards.SQUARES];
+
+    static {
+        Arrays.fill(CASTLING_MASK, ALL_CASTLING);
+        CASTLING_MASK[Bitboards.square(0, 0)] &= ~BLACK_QUEEN_SIDE;
+        CASTLING_MASK[Bitboards.square(0, 4)] &= ~(BLACK_KING_SIDE | BLACK_QUEEN_SIDE);
+        CASTLING_MASK[Bitboards.square(0, 7)] &= ~BLACK_KING_SIDE;
+        CASTLING_MASK[Bitboards.square(7, 0)] &= ~WHITE_QUEEN_SIDE;
+        CASTLING_MASK[Bitboards.square(7, 4)] &= ~(WHITE_KING_SIDE | WHITE_QUEEN_SIDE);
+        CASTLING_MASK[Bitboards.square(7, 7)] &= ~WHITE_KING_SIDE;
+    }
+
+    // Undo record layout: captured piece + 1 (4 bits), castling rights (4 bits), en passant square + 1 (7 bits), halfmove clock
+    private static final int UNDO_CASTLING_SHIFT = 4;
+    private static final int UNDO_EN_PASSANT_SHIFT = 8;
+    private static final int UNDO_HALFMOVE_SHIFT = 15;
+    private static final int INITIAL_UNDO_SIZE = 256;
+    public static final int MAX_SAME_PIECES = 10; // no legal position has more pieces of one kind (2 + 8 promoted pawns)
+
+    // Material signature layout: 4 bits count per piece code, in piece code order
+    private static final int MATERIAL_BITS = 4;
+    private static final long MAJORS_AND_PAWNS = materialMask(PAWN) | materialMask(ROOK) | materialMask(QUEEN);
+
+    // Board state:
+    private final long[] pieceBitboards = new long[PIECES]; // one bitboard per color & piece type
+    private final long[] colorBitboards = new long[2]; // all white / all black pieces
+    private long occupied; // all pieces on board
+    private final int[] board = new int[Bitboards.SQUARES]; // piece code on each square, NONE if empty
+
+    // Piece lists, the squares of each color & piece type in no particular order:
+    private final int[][] pieceSquares = new int[PIECES][MAX_SAME_PIECES];
+    private final int[] pieceCounts = new int[PIECES];
+    private final int[] listIndex = new int[Bitboards.SQUARES]; // index of each square's piece in its piece list
+    private long materialKey; // amount of pieces of each piece code, kept with the piece lists
+
+    // Attack maps, the attacks of each piece are updated incrementally when a square it sees changes:
+    private final long[] pieceAttacks = new long[Bitboards.SQUARES]; // squares attacked by the piece on each square
+    private final long[] colorAttacks = new long[2]; // all squares attacked by white / black
+    private boolean colorAttacksValid = true;
+
+    // Game state:
+    private int sideToMove = WHITE;
+    private int castlingRights = 0;
+    private int enPassantSquare = Bitboards.NO_SQUARE; // square behind a pawn that just made two steps
+    private int halfmoveClock = 0; // moves since last capture or pawn move
+    private int fullmoveNumber = 1;
+    private long key = 0L; // Zobrist key of placement, side to move, castling rights and en passant file
+
+    // Undo stack, one compact record and the position key per played move
+    private int[] undoStack = new int[INITIAL_UNDO_SIZE];
+    private long[] keyStack = new long[INITIAL_UNDO_SIZE];
+    private int undoCount = 0;
+
+    /**
+     * Create empty position
+     */
+    public Position() {
+        Arrays.fill(board, NONE);
+    }
+
+    /**
+     * Create independent copy of given position, including its undo history
+     */
+    public Position(Position other) {
+        System.arraycopy(other.pieceBitboards, 0, pieceBitboards, 0, PIECES);
+        System.arraycopy(other.colorBitboards, 0, colorBitboards, 0, colorBitboards.length);
+        System.arraycopy(other.board, 0, board, 0, Bitboards.SQUARES);
+        for (int piece = 0; piece < PIECES; piece++) {
+            System.arraycopy(other.pieceSquares[piece], 0, pieceSquares[piece], 0, MAX_SAME_PIECES);
+        }
+        System.arraycopy(other.pieceCounts, 0, pieceCounts, 0, PIECES);
+        System.arraycopy(other.listIndex, 0, listIndex, 0, Bitboards.SQUARES);
+        materialKey = other.materialKey;
+        System.arraycopy(other.pieceAttacks, 0, pieceAttacks, 0, Bitboards.SQUARES);
+        System.arraycopy(other.colorAttacks, 0, colorAttacks, 0, colorAttacks.length);
+        occupied = other.occupied;
+        colorAttacksValid = other.colorAttacksValid;
+        sideToMove = other.sideToMove;
+        castlingRights = other.castlingRights;
+        enPassantSquare = other.enPassantSquare;
+        halfmoveClock = other.halfmoveClock;
+        fullmoveNumber = other.fullmoveNumber;
+        key = other.key;
+        undoStack = other.undoStack.clone();
+        keyStack = other.keyStack.clone();
+        undoCount = other.undoCount;
+    }
+
+    /**
+     * Create position with the pieces in their starting point
+     */
+    public static Position startPosition() {
+        Position position = new Position();
+        int[] firstRow = {ROOK, KNIGHT, BISHOP, QUEEN, KING, BISHOP, KNIGHT, ROOK};
+        for (int col = 0; col < Bitboards.BOARD_SIZE; col++) {
+            position.addPiece(make(BLACK, firstRow[col]), Bitboards.square(0, col));
+            position.addPiece(make(BLACK, PAWN), Bitboards.square(1, col));
+            position.addPiece(make(WHITE, PAWN), Bitboards.square(6, col));
+            position.addPiece(make(WHITE, firstRow[col]), Bitboards.square(7, col));
+        }
+        position.setCastlingRights(ALL_CASTLING);
+        return position;
+    }
+
+    /**
+     * Create position from FEN string (placement, side to move, castling, en passant, optional move counters)
+     */
+    public static Position fromFen(String fen) {
+        String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) throw new IllegalArgumentException("Invalid FEN: " + fen);
+        Position position = new Position();
+
+        int row = 0, col = 0;
+        for (char c : fields[0].toCharArray()) {
+            if (c == '/') {
+                row++;
+                col = 0;
+            } else if (Character.isDigit(c)) {
+                col += c - '0';
+            } else {
+                int piece = fromNotation(c);
+                if (piece == NONE || !Bitboards.isOnBoard(row, col) || position.pieceCounts[piece] == MAX_SAME_PIECES) {
+                    throw new IllegalArgumentException("Invalid FEN: " + fen);
+                }
+                position.addPiece(piece, Bitboards.square(row, col++));
+            }
+        }
+
+        position.setSideToMove(fields[1].equals("b") ? BLACK : WHITE);
+        int castlingRights = 0;
+        for (char c : fields[2].toCharArray()) {
+            int index = CASTLING_DENOTES.indexOf(c);
+            if (index >= 0) castlingRights |= 1 << index;
+        }
+        position.setCastlingRights(castlingRights & position.castlingRightsInPlace());
+        if (!fields[3].equals("-")) {
+            position.setEnPassantSquare(position.capturableEnPassant(Bitboards.square('8' - fields[3].charAt(1), fields[3].charAt(0) - 'a')));
+        }
+        if (fields.length > 5) {
+            position.setHalfmoveClock(Integer.parseInt(fields[4]));
+            position.setFullmoveNumber(Integer.parseInt(fields[5]));
+        }
+        return position;
+    }
+
+    /**
+     * Get position as FEN string
+     */
+    public String toFen() {
+        StringBuilder builder = new StringBuilder();
+        for (int row = 0; row < Bitboards.BOARD_SIZE; row++) {
+            int empty = 0;
+            for (int col = 0; col < Bitboards.BOARD_SIZE; col++) {
+                int piece = board[Bitboards.square(row, col)];
+                if (piece == NONE) {
+                    empty++;
+                    continue;
+                }
+                if (empty > 0) builder.append(empty);
+                builder.append(notation(piece));
+                empty = 0;
+            }
+            if (empty > 0) builder.append(empty);
+            if (row < Bitboards.BOARD_SIZE - 1) builder.append('/');
+        }
+
+        builder.append(sideToMove == WHITE ? " w " : " b ");
+        for (int index = 0; index < CASTLING_DENOTES.length(); index++) {
+            if ((castlingRights & (1 << index)) != 0) builder.append(CASTLING_DENOTES.charAt(index));
+        }
+        if (castlingRights == 0) builder.append('-');
+        builder.append(' ').append(enPassantSquare == Bitboards.NO_SQUARE ? "-" : Bitboards.squareName(enPassantSquare));
+        builder.append(' ').append(halfmoveClock).append(' ').append(fullmoveNumber);
+        return builder.toString();
+    }
+
+
+    // Board updates:
+
+    /**
+     * Put piece on empty square
+     */
+    public void addPiece(int piece, int square) {
+        long bit = Bitboards.bit(square);
+        pieceBitboards[piece] |= bit;
+        colorBitboards[colorOf(piece)] |= bit;
+        occupied |= bit;
+        board[square] = piece;
+        listIndex[square] = pieceCounts[piece];
+        pieceSquares[piece][pieceCounts[piece]++] = square;
+        materialKey += 1L << (piece * MATERIAL_BITS);
+        key ^= Zobrist.piece(piece, square);
+        updateAttacks(square);
+    }
+
+    /**
+     * Remove piece from square and return it
+     */
+    public int removePiece(int square) {
+        int piece = board[square];
+        if (piece == NONE) return NONE;
+        long bit = Bitboards.bit(square);
+        pieceBitboards[piece] &= ~bit;
+        colorBitboards[colorOf(piece)] &= ~bit;
+        occupied &= ~bit;
+        board[square] = NONE;
+        int lastSquare = pieceSquares[piece][--pieceCounts[piece]]; // the last square of the list fills the removed slot
+        pieceSquares[piece][listIndex[square]] = lastSquare;
+        listIndex[lastSquare] = listIndex[square];
+        materialKey -= 1L << (piece * MATERIAL_BITS);
+        key ^= Zobrist.piece(piece, square);
+        updateAttacks(square);
+        return piece;
+    }
+
+    /**
+     * Move piece from square to empty square
+     */
+    public void movePiece(int from, int to) {
+        int piece = board[from];
+        long fromTo = Bitboards.bit(from) | Bitboards.bit(to);
+        pieceBitboards[piece] ^= fromTo;
+        colorBitboards[colorOf(piece)] ^= fromTo;
+        occupied ^= fromTo;
+        board[from] = NONE;
+        board[to] = piece;
+        pieceSquares[piece][listIndex[from]] = to;
+        listIndex[to] = listIndex[from];
+        key ^= Zobrist.piece(piece, from) ^ Zobrist.piece(piece, to);
+        updateAttacks(from);
+        updateAttacks(to);
+    }
+
+    /**
+     * Remove all pieces from board
+     */
+    public void clear() {
+        Arrays.fill(pieceBitboards, 0L);
+        Arrays.fill(colorBitboards, 0L);
+        Arrays.fill(board, NONE);
+        Arrays.fill(pieceCounts, 0);
+        materialKey = 0L;
+        Arrays.fill(pieceAttacks, 0L);
+        Arrays.fill(colorAttacks, 0L);
+        colorAttacksValid = true;
+        occupied = 0L;
+        sideToMove = WHITE;
+        castlingRights = 0;
+        enPassantSquare = Bitboards.NO_SQUARE;
+        halfmoveClock = 0;
+        fullmoveNumber = 1;
+        key = 0L;
+        undoCount = 0;
+    }
+
+
+    // Make & unmake moves:
+
+    /**
+     * Play given move on board and save what is needed to take it back (doesn't check the move is legal)
+     */
+    public void makeMove(int move) {
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        int flags = Move.getFlags(move);
+        int piece = board[from];
+        int color = colorOf(piece);
+
+        int capturedSquare = (flags == Move.EN_PASSANT) ? to - LeaperAttacks.pawnForward(color) : to;
+        int captured = board[capturedSquare];
+        pushUndo(captured);
+
+        if (captured != NONE) {
+            removePiece(capturedSquare);
+        }
+        movePiece(from, to);
+        if (Move.isPromotion(move)) {
+            removePiece(to);
+            addPiece(make(color, Move.getPromotionType(move)), to);
+        } else if (flags == Move.KING_CASTLE) {
+            movePiece(to + 1, to - 1);
+        } else if (flags == Move.QUEEN_CASTLE) {
+            movePiece(to - 2, to + 1);
+        }
+
+        setCastlingRights(castlingRights & CASTLING_MASK[from] & CASTLING_MASK[to]);
+        setEnPassantSquare((flags == Move.DOUBLE_PAWN_PUSH) ? capturableEnPassant(from + LeaperAttacks.pawnForward(color)) : Bitboards.NO_SQUARE);
+        halfmoveClock = (typeOf(piece) == PAWN || captured != NONE) ? 0 : halfmoveClock + 1;
+        if (color == BLACK) {
+            fullmoveNumber++;
+        }
+        setSideToMove(opposite(color));
+    }
+
+    /**
+     * Take back given move, which must be the last move played
+     */
+    public void unmakeMove(int move) {
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        int flags = Move.getFlags(move);
+        int color = colorOf(board[to]);
+        int record = undoStack[--undoCount];
+
+        if (Move.isPromotion(move)) {
+            removePiece(to);
+            addPiece(make(color, PAWN), to);
+        } else if (flags == Move.KING_CASTLE) {
+            movePiece(to - 1, to + 1);
+        } else if (flags == Move.QUEEN_CASTLE) {
+            movePiece(to + 1, to - 2);
+        }
+        movePiece(to, from);
+
+        int captured = (record & 0xF) - 1;
+        if (captured != NONE) {
+            int capturedSquare = (flags == Move.EN_PASSANT) ? to - LeaperAttacks.pawnForward(color) : to;
+            addPiece(captured, capturedSquare);
+        }
+
+        castlingRights = (record >>> UNDO_CASTLING_SHIFT) & 0xF;
+        enPassantSquare = ((record >>> UNDO_EN_PASSANT_SHIFT) & 0x7F) - 1;
+        halfmoveClock = record >>> UNDO_HALFMOVE_SHIFT;
+        if (color == BLACK) {
+            fullmoveNumber--;
+        }
+        sideToMove = color;
+        key = keyStack[undoCount]; // saved key replaces the one changed by the piece updates above
+    }
+
+    /**
+     * Get given square behind a pawn that made two steps if an opposite pawn can capture there, NO_SQUARE otherwise
+     * (keeps the key the same as for the position where the pawn came in one step when no capture is possible)
+     */
+    private int capturableEnPassant(int square) {
+        int pawnColor = (Bitboards.getRow(square) == 2) ? BLACK : WHITE; // row 2 is behind a black pawn's two steps
+        long capturers = LeaperAttacks.pawnAttacks(pawnColor, square) & pieceBitboards[make(opposite(pawnColor), PAWN)];
+        return (capturers != 0) ? square : Bitboards.NO_SQUARE;
+    }
+
+    /**
+     * Get the castling rights whose king and rook are still on their starting squares
+     */
+    private int castlingRightsInPlace() {
+        int rights = 0;
+        for (int color = WHITE; color <= BLACK; color++) {
+            int row = (color == WHITE) ? Bitboards.BOARD_SIZE - 1 : 0;
+            if (board[Bitboards.square(row, 4)] != make(color, KING)) continue;
+            if (board[Bitboards.square(row, 7)] == make(color, ROOK)) {
+                rights |= (color == WHITE) ? WHITE_KING_SIDE : BLACK_KING_SIDE;
+            }
+            if (board[Bitboards.square(row, 0)] == make(color, ROOK)) {
+                rights |= (color == WHITE) ? WHITE_QUEEN_SIDE : BLACK_QUEEN_SIDE;
+            }
+        }
+        return rights;
+    }
+
+    /**
+     * Save captured piece and the irreversible game state before playing a move
+     */
+    private void pushUndo(int captured) {
+        if (undoCount == undoStack.length) {
+            undoStack = Arrays.copyOf(undoStack, undoStack.length * 2);
+            keyStack = Arrays.copyOf(keyStack, keyStack.length * 2);
+        }
+        keyStack[undoCount] = key;
+        undoStack[undoCount++] = (captured + 1)
+                | (castlingRights << UNDO_CASTLING_SHIFT)
+                | ((enPassantSquare + 1) << UNDO_EN_PASSANT_SHIFT)
+                | (halfmoveClock << UNDO_HALFMOVE_SHIFT);
+    }
+
+
+    // Repetitions:
+
+    /**
+     * Count the earlier occurrences of the current position, only positions since the last capture or pawn move can repeat
+     */
+    public int countRepetitions() {
+        return countRepetitions(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Check if the current position occurred before since the last capture or pawn move (search scores it as a draw)
+     */
+    public boolean isRepetition() {
+        return countRepetitions(1) > 0;
+    }
+
+    /**
+     * Count the earlier occurrences of the current position, stopping once given amount was found
+     */
+    private int countRepetitions(int limit) {
+        int repetitions = 0;
+        int oldest = Math.max(0, undoCount - halfmoveClock);
+        for (int index = undoCount - 4; index >= oldest && repetitions < limit; index -= 2) { // same side to move, at least two moves each ago
+            if (keyStack[index] == key) repetitions++;
+        }
+        return repetitions;
+    }
+
+
+    // Draw rules:
+
+    /**
+     * Check if no sequence of legal moves can mate: kings with at most one minor piece, or only bishops all on one square color
+     */
+    public boolean isInsufficientMaterial() {
+        if ((materialKey & MAJORS_AND_PAWNS) != 0) return false;
+        int knightCount = pieceCounts[make(WHITE, KNIGHT)] + pieceCounts[make(BLACK, KNIGHT)];
+        int bishopCount = pieceCounts[make(WHITE, BISHOP)] + pieceCounts[make(BLACK, BISHOP)];
+        if (knightCount + bishopCount <= 1) return true;
+        if (knightCount > 0) return false;
+        long bishops = pieceBitboards[make(WHITE, BISHOP)] | pieceBitboards[make(BLACK, BISHOP)];
+        return (bishops & Bitboards.LIGHT_SQUARES) == 0 || (bishops & ~Bitboards.LIGHT_SQUARES) == 0;
+    }
+
+    /**
+     * Get signature bits of both colors' piece count of given type
+     */
+    private static long materialMask(int type) {
+        long countMask = (1L << MATERIAL_BITS) - 1;
+        return (countMask << (make(WHITE, type) * MATERIAL_BITS)) | (countMask << (make(BLACK, type) * MATERIAL_BITS));
+    }
+
+
+    // Attack maps:
+
+    /**
+     * Recalculate the attacks of the piece on given square and of every slider whose ray crosses it
+     */
+    private void updateAttacks(int square) {
+        int piece = board[square];
+        pieceAttacks[square] = (piece == NONE) ? 0L : calcPieceAttacks(piece, square);
+
+        long queens = pieceBitboards[make(WHITE, QUEEN)] | pieceBitboards[make(BLACK, QUEEN)];
+        long bishops = pieceBitboards[make(WHITE, BISHOP)] | pieceBitboards[make(BLACK, BISHOP)] | queens;
+        long rooks = pieceBitboards[make(WHITE, ROOK)] | pieceBitboards[make(BLACK, ROOK)] | queens;
+        long sliders = (SliderAttacks.bishopAttacks(square, occupied) & bishops)
+                | (SliderAttacks.rookAttacks(square, occupied) & rooks);
+        for (; sliders != 0; sliders &= sliders - 1) {
+            int sliderSquare = Bitboards.lowestSquare(sliders);
+            pieceAttacks[sliderSquare] = calcPieceAttacks(board[sliderSquare], sliderSquare);
+        }
+        colorAttacksValid = false;
+    }
+
+    /**
+     * Calculates the attacks of given piece from given square on current board
+     */
+    private long calcPieceAttacks(int piece, int square) {
+        return switch (typeOf(piece)) {
+            case PAWN -> LeaperAttacks.pawnAttacks(colorOf(piece), square);
+            case KNIGHT -> LeaperAttacks.knightAttacks(square);
+            case BISHOP -> SliderAttacks.bishopAttacks(square, occupied);
+            case ROOK -> SliderAttacks.rookAttacks(square, occupied);
+            case QUEEN -> SliderAttacks.queenAttacks(square, occupied);
+            default -> LeaperAttacks.kingAttacks(square);
+        };
+    }
+
+    /**
+     * Get all squares attacked by pieces of given color, the color maps are merged from piece attacks only when asked
+     */
+    public long getAttacks(int color) {
+        if (!colorAttacksValid) {
+            for (int side = WHITE; side <= BLACK; side++) {
+                long attacks = 0L;
+                for (long pieces = colorBitboards[side]; pieces != 0; pieces &= pieces - 1) {
+                    attacks |= pieceAttacks[Bitboards.lowestSquare(pieces)];
+                }
+                colorAttacks[side] = attacks;
+            }
+            colorAttacksValid = true;
+        }
+        return colorAttacks[color];
+    }
+
+
+    // Attack queries:
+
+    /**
+     * Get all pieces of both colors attacking given square, with given board occupancy
+     */
+    public long attackersTo(int square, long occupied) {
+        long queens = pieceBitboards[make(WHITE, QUEEN)] | pieceBitboards[make(BLACK, QUEEN)];
+        long bishops = pieceBitboards[make(WHITE, BISHOP)] | pieceBitboards[make(BLACK, BISHOP)] | queens;
+        long rooks = pieceBitboards[make(WHITE, ROOK)] | pieceBitboards[make(BLACK, ROOK)] | queens;
+        long knights = pieceBitboards[make(WHITE, KNIGHT)] | pieceBitboards[make(BLACK, KNIGHT)];
+        long kings = pieceBitboards[make(WHITE, KING)] | pieceBitboards[make(BLACK, KING)];
+        return (LeaperAttacks.pawnAttacks(BLACK, square) & pieceBitboards[make(WHITE, PAWN)])
+                | (LeaperAttacks.pawnAttacks(WHITE, square) & pieceBitboards[make(BLACK, PAWN)])
+                | (LeaperAttacks.knightAttacks(square) & knights)
+                | (LeaperAttacks.kingAttacks(square) & kings)
+                | (SliderAttacks.bishopAttacks(square, occupied) & bishops)
+                | (SliderAttacks.rookAttacks(square, occupied) & rooks);
+    }
+
+    /**
+     * Check if the king of given color is attacked
+     */
+    public boolean isInCheck(int color) {
+        int kingSquare = getKingSquare(color);
+        return kingSquare != Bitboards.NO_SQUARE && Bitboards.contains(getAttacks(opposite(color)), kingSquare);
+    }
+
+
+    // Getters & Setters:
+
+    /**
+     * Get piece code on given square, NONE if empty
+     */
+    public int getPiece(int square) {
+        return board[square];
+    }
+
+    /**
+     * Check if given square is empty
+     */
+    public boolean isEmpty(int square) {
+        return board[square] == NONE;
+    }
+
+    /**
+     * Get bitboard of given piece code
+     */
+    public long getPieces(int piece) {
+        return pieceBitboards[piece];
+    }
+
+    /**
+     * Get bitboard of given color and piece type
+     */
+    public long getPieces(int color, int type) {
+        return pieceBitboards[make(color, type)];
+    }
+
+    /**
+     * Get the squares of given piece code, only the first getPieceCount entries are valid (read only)
+     */
+    public int[] getPieceSquares(int piece) {
+        return pieceSquares[piece];
+    }
+
+    /**
+     * Get amount of pieces of given piece code on board
+     */
+    public int getPieceCount(int piece) {
+        return pieceCounts[piece];
+    }
+
+    /**
+     * Get material signature, the amount of pieces of each piece code packed in 4 bits each
+     */
+    public long getMaterialKey() {
+        return materialKey;
+    }
+
+    /**
+     * Get bitboard of all pieces of given color
+     */
+    public long getColorPieces(int color) {
+        return colorBitboards[color];
+    }
+
+    /**
+     * Get bitboard of all pieces on board
+     */
+    public long getOccupied() {
+        return occupied;
+    }
+
+    /**
+     * Get king square of given color, NO_SQUARE if there is no king
+     */
+    public int getKingSquare(int color) {
+        int king = make(color, KING);
+        return pieceCounts[king] == 0 ? Bitboards.NO_SQUARE : pieceSquares[king][0];
+    }
+
+    /**
+     * Get position's Zobrist key
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Get color index of the player to move
+     */
+    public int getSideToMove() {
+        return sideToMove;
+    }
+
+    /**
+     * Set color index of the player to move
+     */
+    public void setSideToMove(int sideToMove) {
+        key ^= Zobrist.side(this.sideToMove) ^ Zobrist.side(sideToMove);
+        this.sideToMove = sideToMove;
+    }
+
+    /**
+     * Get castling rights bits
+     */
+    public int getCastlingRights() {
+        return castlingRights;
+    }
+
+    /**
+     * Set castling rights bits
+     */
+    public void setCastlingRights(int castlingRights) {
+        key ^= Zobrist.castling(this.castlingRights) ^ Zobrist.castling(castlingRights);
+        this.castlingRights = castlingRights;
+    }
+
+    /**
+     * Get en passant target square, NO_SQUARE if last move wasn't a pawn two steps move
+     */
+    public int getEnPassantSquare() {
+        return enPassantSquare;
+    }
+
+    /**
+     * Set en passant target square
+     */
+    public void setEnPassantSquare(int enPassantSquare) {
+        key ^= Zobrist.enPassant(this.enPassantSquare) ^ Zobrist.enPassant(enPassantSquare);
+        this.enPassantSquare = enPassantSquare;
+    }
+
+    /**
+     * Get number of moves since last capture or pawn move
+     */
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    /**
+     * Set number of moves since last capture or pawn move
+     */
+    public void setHalfmoveClock(int halfmoveClock) {
+        this.halfmoveClock = halfmoveClock;
+    }
+
+    /**
+     * Get game's full move number
+     */
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    /**
+     * Set game's full move number
+     */
+    public void setFullmoveNumber(int fullmoveNumber) {
+        this.fullmoveNumber = fullmoveNumber;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int row = 0; row < Bitboards.BOARD_SIZE; row++) {
+            for (int col = 0; col < Bitboards.BOARD_SIZE; col++) {
+                int piece = board[Bitboards.square(row, col)];
+                builder.append(piece == NONE ? '.' : notation(piece));
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+}
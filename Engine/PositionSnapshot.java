@@ -0,0 +1,196 @@
+package Engine;
+
+import java.util.Arrays;
+
+import static Engine.PieceType.*;
+
+public final class PositionSnapshot {
+    // Immutable copy of a position, a value that any thread may read without locks or defensive copies
+
+    // State layout: side to move (1 bit), castling rights (4 bits), en passant square + 1 (7 bits)
+    private static final int CASTLING_SHIFT = 1;
+    private static final int EN_PASSANT_SHIFT = 5;
+
+    private static final ThreadLocal<Position> SCRATCH = ThreadLocal.withInitial(Position::new); // apply's working position
+
+    private final long[] colorBitboards = new long[2]; // all white / all black pieces
+    private final long[] typeBitboards = new long[KING + 1]; // pieces of each type, both colors
+    private final long key;
+    private final int state;
+    private final int halfmoveClock;
+    private final int fullmoveNumber;
+
+    /**
+     * Copy given position's placement and game state (the undo history is not kept)
+     */
+    private PositionSnapshot(Position position) {
+        for (int color = WHITE; color <= BLACK; color++) {
+            colorBitboards[color] = position.getColorPieces(color);
+            for (int type = PAWN; type <= KING; type++) {
+                typeBitboards[type] |= position.getPieces(color, type);
+            }
+        }
+        key = position.getKey();
+        state = position.getSideToMove() | (position.getCastlingRights() << CASTLING_SHIFT)
+                | ((position.getEnPassantSquare() + 1) << EN_PASSANT_SHIFT);
+        halfmoveClock = position.getHalfmoveClock();
+        fullmoveNumber = position.getFullmoveNumber();
+    }
+
+    /**
+     * Create snapshot of given position
+     */
+    public static PositionSnapshot from(Position position) {
+        return new PositionSnapshot(position);
+    }
+
+    /**
+     * Get the snapshot after given move, this snapshot stays as it is (doesn't check the move is legal). The move is
+     * played on a scratch position of the calling thread, so only the new snapshot is allocated.
+     */
+    public PositionSnapshot apply(int move) {
+        return apply(move, SCRATCH.get());
+    }
+
+    /**
+     * Same as apply(move), played on given caller owned scratch position (its former content is replaced)
+     */
+    public PositionSnapshot apply(int move, Position scratch) {
+        copyTo(scratch);
+        scratch.makeMove(move);
+        return new PositionSnapshot(scratch);
+    }
+
+    /**
+     * Create a new mutable position with this snapshot's placement and game state
+     */
+    public Position toPosition() {
+        Position position = new Position();
+        copyTo(position);
+        return position;
+    }
+
+    /**
+     * Set given existing position to this snapshot's placement and game state, replacing its content and undo history
+     */
+    public void copyTo(Position target) {
+        target.clear();
+        for (int color = WHITE; color <= BLACK; color++) {
+            for (int type = PAWN; type <= KING; type++) {
+                for (long pieces = getPieces(color, type); pieces != 0; pieces &= pieces - 1) {
+                    target.addPiece(make(color, type), Bitboards.lowestSquare(pieces));
+                }
+            }
+        }
+        target.setSideToMove(getSideToMove());
+        target.setCastlingRights(getCastlingRights());
+        target.setEnPassantSquare(getEnPassantSquare());
+        target.setHalfmoveClock(halfmoveClock);
+        target.setFullmoveNumber(fullmoveNumber);
+    }
+
+    /**
+     * Get snapshot as FEN string
+     */
+    public String toFen() {
+        return toPosition().toFen();
+    }
+
+
+    // Getters:
+
+    /**
+     * Get piece code on given square, NONE if empty
+     */
+    public int getPiece(int square) {
+        int color = Bitboards.contains(colorBitboards[WHITE], square) ? WHITE : BLACK;
+        for (int type = PAWN; type <= KING; type++) {
+            if (Bitboards.contains(typeBitboards[type], square)) return make(color, type);
+        }
+        return NONE;
+    }
+
+    /**
+     * Get bitboard of given color and piece type
+     */
+    public long getPieces(int color, int type) {
+        return colorBitboards[color] & typeBitboards[type];
+    }
+
+    /**
+     * Get bitboard of all pieces of given color
+     */
+    public long getColorPieces(int color) {
+        return colorBitboards[color];
+    }
+
+    /**
+     * Get bitboard of all pieces
+     */
+    public long getOccupied() {
+        return colorBitboards[WHITE] | colorBitboards[BLACK];
+    }
+
+    /**
+     * Get snapshot's Zobrist key, the same as its position's key
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Get color to move
+     */
+    public int getSideToMove() {
+        return state & 1;
+    }
+
+    /**
+     * Get castling rights bits
+     */
+    public int getCastlingRights() {
+        return (state >>> CASTLING_SHIFT) & Position.ALL_CASTLING;
+    }
+
+    /**
+     * Get en passant target square, NO_SQUARE if there is none
+     */
+    public int getEnPassantSquare() {
+        return (state >>> EN_PASSANT_SHIFT) - 1;
+    }
+
+    /**
+     * Get moves since last capture or pawn move
+     */
+    public int getHalfmoveClock() {
+        return halfmoveClock;
+    }
+
+    /**
+     * Get game's full move number
+     */
+    public int getFullmoveNumber() {
+        return fullmoveNumber;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof PositionSnapshot other) {
+            return key == other.key && state == other.state && halfmoveClock == other.halfmoveClock
+                    && fullmoveNumber == other.fullmoveNumber && Arrays.equals(colorBitboards, other.colorBitboards)
+                    && Arrays.equals(typeBitboards, other.typeBitboards);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(key);
+    }
+
+    @Override
+    public String toString() {
+        return toFen();
+    }
+}
@@ -0,0 +1,451 @@
+package Engine;
+
+public class Search {
+    public static final int MAX_DEPTH = 64;
+    public static final int INFINITY = 32_000;
+    public static final int MATE_SCORE = 31_000; // mate in n plies scores MATE_SCORE - n
+    public static final int DRAW_SCORE = 0;
+    private static final int TIME_CHECK_MASK = 2047; // check the clock once per 2048 nodes
+    private static final int LAST_PLY = MoveGenerator.MAX_PLY - 1; // quiescence stands pat here, the move lists end
+    private static final int HISTORY_LIMIT = 1 << 20; // history scores are halved once one reaches it, newer cutoffs weigh more
+
+    private final MoveGenerator moveGenerator = new MoveGenerator();
+    private final TranspositionTable table; // null searches without one
+    private final int helperIndex; // 0 for the main search, Lazy SMP helpers vary their depths and root order by it
+    private Position position;
+    private volatile boolean stopped = false;
+    private long deadline; // System.nanoTime to stop at, Long.MAX_VALUE for no time limit
+    private int drawClockPlies = Game.FIFTY_MOVE_PLIES; // halfmove clock that draws, the game's fifty or seventy-five move rule
+    private long nodes;
+    private final int[][] moveScores = new int[MoveGenerator.MAX_PLY][MoveGenerator.MAX_MOVES]; // ordering score of each ply's moves
+    private final int[] exchangeGains = new int[StaticExchange.MAX_EXCHANGES]; // static exchange buffer, no garbage per node
+    private final MovePicker[] pickers = new MovePicker[MoveGenerator.MAX_PLY]; // staged move order of each ply
+    private final int[] playedMoves = new int[MoveGenerator.MAX_PLY]; // move searched at each ply, the counter move's key
+
+    // Quiet move ordering heuristics, learned from the cutoffs of this search thread and kept between searches:
+    private final int[][] killers = new int[MoveGenerator.MAX_PLY][2]; // the last two quiet cutoff moves of each ply
+    private final int[][] counterMoves = new int[PieceType.PIECES][64]; // quiet cutoff reply by the previous move's piece and target
+    private final int[][][] history = new int[2][64][64]; // quiet cutoff score by color, from and to square
+
+    // Stats of the last search:
+    private long cutoffs;
+    private long firstMoveCutoffs;
+
+    // Result of the last completed iteration:
+    private int bestMove = Move.NONE;
+    private int bestScore = 0;
+    private int completedDepth = 0;
+
+    /**
+     * Create search with its own transposition table of the default size
+     */
+    public Search() {
+        this(new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB));
+    }
+
+    /**
+     * Create search that uses given transposition table (null for none), the table may be kept between searches
+     */
+    public Search(TranspositionTable table) {
+        this(table, 0);
+    }
+
+    /**
+     * Create search of given Lazy SMP thread index that uses given shared table, helpers (index > 0) search odd
+     * indexes one ply deeper and start their root moves at a different move, so the threads fill the table differently
+     */
+    Search(TranspositionTable table, int helperIndex) {
+        this.table = table;
+        this.helperIndex = helperIndex;
+        for (int ply = 0; ply < pickers.length; ply++) {
+            pickers[ply] = new MovePicker(moveGenerator);
+        }
+    }
+
+    /**
+     * Search a position to a fixed depth with and without transposition table and print both node counts
+     * ("[depth] [table MB] [fen]", start position by default)
+     */
+    public static void main(String[] args) {
+        int depth = (args.length > 0) ? Integer.parseInt(args[0]) : 6;
+        int sizeMb = (args.length > 1) ? Integer.parseInt(args[1]) : TranspositionTable.DEFAULT_SIZE_MB;
+        String fen = (args.length > 2) ? args[2] : Position.startPosition().toFen();
+
+        TranspositionTable table = new TranspositionTable(sizeMb);
+        for (Search search : new Search[]{new Search(null), new Search(table)}) {
+            long start = System.nanoTime();
+            int move = search.findBestMove(Position.fromFen(fen), depth, 0);
+            long time = System.nanoTime() - start;
+            System.out.println((search.table == null ? "no table:  " : "with table:") + " depth " + search.getCompletedDepth()
+                    + " best " + Move.toString(move) + " score " + search.getBestScore() + " nodes " + search.getNodes()
+                    + " in " + time / 1_000_000 + " ms (" + Perft.nodesPerSecond(search.getNodes(), time) + " nps), "
+                    + String.format("%.1f%% first move cutoffs", search.getFirstMoveCutoffRate()));
+        }
+        System.out.printf("Table: %d MB, %.1f%% hit rate%n", table.getSizeMb(), table.getHitRate());
+    }
+
+    /**
+     * Search given position to given depth or until given time in milliseconds ran out (0 for no time limit) and
+     * return the best move, Move.NONE if there is no legal move. The position is searched in place and restored.
+     * At least the first iteration always completes, so a legal move is always found.
+     */
+    public int findBestMove(Position position, int maxDepth, long timeMillis) {
+        if (table != null) {
+            table.newSearch();
+        }
+        clearStop();
+        return search(position, maxDepth, timeMillis);
+    }
+
+    /**
+     * Run the iterative deepening of findBestMove without starting a new table generation or clearing a stop request,
+     * the search's owner does both before the search starts, so a stop sent before the thread got here isn't lost
+     */
+    int search(Position position, int maxDepth, long timeMillis) {
+        this.position = position;
+        this.deadline = (timeMillis > 0) ? System.nanoTime() + timeMillis * 1_000_000 : Long.MAX_VALUE;
+        nodes = 0;
+        cutoffs = 0;
+        firstMoveCutoffs = 0;
+        ageHistory();
+        bestMove = Move.NONE;
+        bestScore = 0;
+        completedDepth = 0;
+
+        MoveList rootMoves = moveGenerator.generateLegalMoves(position, 0);
+        if (rootMoves.isEmpty()) return Move.NONE;
+        orderCaptures(rootMoves, 0);
+        if (table != null) {
+            orderFirst(rootMoves, TranspositionTable.getMove(table.probe(position.getKey()))); // best move of a former search
+        }
+        if (helperIndex > 0 && rootMoves.size() > 2) { // helpers rotate the root moves after the first one
+            int shift = helperIndex % (rootMoves.size() - 1);
+            reverse(rootMoves, 1, shift);
+            reverse(rootMoves, shift + 1, rootMoves.size() - 1);
+            reverse(rootMoves, 1, rootMoves.size() - 1);
+        }
+        for (int depth = 1 + helperIndex % 2; depth <= Math.min(maxDepth, MAX_DEPTH); depth++) {
+            searchRoot(rootMoves, depth);
+            if (stopped) break;
+            if (Math.abs(bestScore) >= MATE_SCORE - MAX_DEPTH) break; // a forced mate was found, deeper search won't change it
+        }
+        return bestMove;
+    }
+
+    /**
+     * Ask a running search to stop as soon as possible, it returns the best move of the last completed iteration
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Clear the stop request of a former search, call before the next search starts
+     */
+    void clearStop() {
+        stopped = false;
+    }
+
+
+    // Search:
+
+    /**
+     * Search all root moves to given depth, the best move so far first, and keep the result if the iteration completed
+     */
+    private void searchRoot(MoveList rootMoves, int depth) {
+        int alpha = -INFINITY;
+        int iterationBest = 0;
+        for (int index = 0; index < rootMoves.size(); index++) {
+            int move = rootMoves.get(index);
+            playedMoves[0] = move;
+            position.makeMove(move);
+            int score = -negamax(depth - 1, -INFINITY, -alpha, 1);
+            position.unmakeMove(move);
+            if (stopped) return; // unfinished iteration, keep the former result
+            if (score > alpha) {
+                alpha = score;
+                iterationBest = index;
+            }
+        }
+        rootMoves.swap(0, iterationBest); // search the best move first in the next iteration
+        bestMove = rootMoves.get(0);
+        bestScore = alpha;
+        completedDepth = depth;
+        if (table != null) {
+            table.store(position.getKey(), depth, TranspositionTable.EXACT, alpha, bestMove);
+        }
+    }
+
+    /**
+     * Get the score of the current position searched to given depth, within the alpha-beta window
+     */
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        if (depth == 0) return quiescence(alpha, beta, ply);
+        if ((++nodes & TIME_CHECK_MASK) == 0 && completedDepth > 0 && System.nanoTime() >= deadline) {
+            stopped = true;
+        }
+        if (stopped) return 0;
+        if (isDraw()) return DRAW_SCORE;
+
+        long key = position.getKey();
+        int tableMove = Move.NONE;
+        if (table != null) {
+            long data = table.probe(key);
+            if (data != TranspositionTable.MISS) {
+                tableMove = TranspositionTable.getMove(data);
+                int score = scoreFromTable(TranspositionTable.getScore(data), ply);
+                int bound = TranspositionTable.getBound(data);
+                if (TranspositionTable.getDepth(data) >= depth && (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && score >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && score <= alpha))) {
+                    return score;
+                }
+            }
+        }
+
+        int side = position.getSideToMove();
+        int previousPiece = position.getPiece(Move.getTo(playedMoves[ply - 1])); // the piece that just moved
+        int previousTo = Move.getTo(playedMoves[ply - 1]);
+        MovePicker picker = pickers[ply];
+        picker.reset(position, tableMove, killers[ply][0], killers[ply][1], counterMoves[previousPiece][previousTo], history[side]);
+
+        int originalAlpha = alpha;
+        int bestMove = Move.NONE;
+        int searched = 0;
+        for (int move = picker.next(); move != Move.NONE; move = picker.next()) {
+            playedMoves[ply] = move;
+            position.makeMove(move);
+            int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            position.unmakeMove(move);
+            searched++;
+            if (stopped) return 0; // the score of an unfinished search must not reach the table
+            if (score >= beta) {
+                cutoffs++;
+                if (searched == 1) firstMoveCutoffs++;
+                if (!Move.isCapture(move) && !Move.isPromotion(move)) {
+                    updateQuietHeuristics(move, depth, ply, side, previousPiece, previousTo);
+                }
+                storeResult(key, depth, TranspositionTable.LOWER_BOUND, beta, move, ply);
+                return beta;
+            }
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+            }
+        }
+        if (searched == 0) {
+            return position.isInCheck(side) ? -MATE_SCORE + ply : DRAW_SCORE;
+        }
+        storeResult(key, depth, alpha > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER_BOUND, alpha, bestMove, ply);
+        return alpha;
+    }
+
+    /**
+     * Get the score of the current position once its captures settled: the side to move may stand on the static
+     * evaluation or try captures and promotions, best static exchange first, skipping those that lose material.
+     * In check every evasion is searched, since standing still is not an option.
+     */
+    private int quiescence(int alpha, int beta, int ply) {
+        if ((++nodes & TIME_CHECK_MASK) == 0 && completedDepth > 0 && System.nanoTime() >= deadline) {
+            stopped = true;
+        }
+        if (stopped) return 0;
+        if (isDraw()) return DRAW_SCORE;
+
+        boolean inCheck = position.isInCheck(position.getSideToMove());
+        if (!inCheck || ply == LAST_PLY) {
+            int standPat = Evaluation.evaluate(position);
+            if (standPat >= beta || ply == LAST_PLY) return standPat;
+            alpha = Math.max(alpha, standPat);
+        }
+
+        MoveList moves = moveGenerator.generateCaptures(position, ply);
+        if (moves.isEmpty() && inCheck) return -MATE_SCORE + ply;
+        int[] scores = moveScores[ply];
+        for (int index = 0; index < moves.size(); index++) {
+            scores[index] = StaticExchange.evaluate(position, moves.get(index), exchangeGains);
+        }
+        for (int index = 0; index < moves.size(); index++) {
+            moves.pickBest(scores, index, moves.size());
+            if (!inCheck && scores[index] < 0) break; // the rest lose material too
+            int move = moves.get(index);
+            position.makeMove(move);
+            int score = -quiescence(-beta, -alpha, ply + 1);
+            position.unmakeMove(move);
+            if (stopped) return 0;
+            if (score >= beta) return beta;
+            alpha = Math.max(alpha, score);
+        }
+        return alpha;
+    }
+
+    /**
+     * Learn from a quiet move's beta cutoff: it becomes the ply's first killer and the counter move of the previous move,
+     * and its history score grows by the searched depth squared, so cutoffs deep in the tree weigh less
+     */
+    private void updateQuietHeuristics(int move, int depth, int ply, int side, int previousPiece, int previousTo) {
+        if (killers[ply][0] != move) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = move;
+        }
+        counterMoves[previousPiece][previousTo] = move;
+        int[][] sideHistory = history[side];
+        int score = sideHistory[Move.getFrom(move)][Move.getTo(move)] += depth * depth;
+        if (score >= HISTORY_LIMIT) {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Halve all history scores, the cutoffs of former searches and earlier parts of this one count less than new ones
+     */
+    private void ageHistory() {
+        for (int[][] sideHistory : history) {
+            for (int[] fromHistory : sideHistory) {
+                for (int to = 0; to < fromHistory.length; to++) {
+                    fromHistory[to] /= 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Store a node's result in the table if there is one
+     */
+    private void storeResult(long key, int depth, int bound, int score, int move, int ply) {
+        if (table != null) {
+            table.store(key, depth, bound, scoreToTable(score, ply), move);
+        }
+    }
+
+    /**
+     * Convert score to table score, mate scores count plies from the stored node instead of the root
+     */
+    private static int scoreToTable(int score, int ply) {
+        if (score >= MATE_SCORE - MAX_DEPTH * 2) return score + ply;
+        if (score <= -MATE_SCORE + MAX_DEPTH * 2) return score - ply;
+        return score;
+    }
+
+    /**
+     * Convert table score back to a score counted from the root
+     */
+    private static int scoreFromTable(int score, int ply) {
+        if (score >= MATE_SCORE - MAX_DEPTH * 2) return score - ply;
+        if (score <= -MATE_SCORE + MAX_DEPTH * 2) return score + ply;
+        return score;
+    }
+
+    /**
+     * Check if the searched position is drawn by repetition, insufficient material or the move clock rule, a checkmate
+     * on the last ply of the clock is not a draw and the search scores it as mate
+     */
+    private boolean isDraw() {
+        if (position.isRepetition() || position.isInsufficientMaterial()) return true;
+        if (position.getHalfmoveClock() < drawClockPlies) return false;
+        return !position.isInCheck(position.getSideToMove()) || moveGenerator.hasLegalMove(position);
+    }
+
+    /**
+     * Move the captures and promotions to the front of given list, they cut off the most, the best static exchange first
+     */
+    private void orderCaptures(MoveList moves, int ply) {
+        int[] scores = moveScores[ply];
+        int front = 0;
+        for (int index = 0; index < moves.size(); index++) {
+            int move = moves.get(index);
+            if (Move.isCapture(move) || Move.isPromotion(move)) {
+                scores[front] = StaticExchange.evaluate(position, move, exchangeGains);
+                moves.swap(front++, index);
+            }
+        }
+        for (int index = 0; index < front; index++) {
+            moves.pickBest(scores, index, front);
+        }
+    }
+
+    /**
+     * Move given move to the front of given list if the list has it
+     */
+    private static void orderFirst(MoveList moves, int move) {
+        if (move == Move.NONE) return;
+        for (int index = 0; index < moves.size(); index++) {
+            if (moves.get(index) == move) {
+                moves.swap(0, index);
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Reverse the order of given list's moves between given indexes (inclusive)
+     */
+    private static void reverse(MoveList moves, int first, int last) {
+        for (; first < last; first++, last--) {
+            moves.swap(first, last);
+        }
+    }
+
+
+    // Settings:
+
+    /**
+     * Set if the fifty move rule draws like in the searched game, otherwise only the seventy-five move rule does
+     */
+    public void setFiftyMoveDraw(boolean fiftyMoveDraw) {
+        drawClockPlies = fiftyMoveDraw ? Game.FIFTY_MOVE_PLIES : Game.SEVENTY_FIVE_MOVE_PLIES;
+    }
+
+
+    // Getters:
+
+    /**
+     * Get the best move of the last completed iteration
+     */
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    /**
+     * Get the score of the best move in centipawns, from the side to move's point of view
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Get the depth of the last completed iteration
+     */
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Get amount of positions searched by the last search
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Get amount of beta cutoffs in the last search (quiescence not included)
+     */
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    /**
+     * Get amount of beta cutoffs in the last search that the first searched move made
+     */
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+    /**
+     * Get percentage of the last search's beta cutoffs that the first searched move made, the move ordering's quality
+     */
+    public double getFirstMoveCutoffRate() {
+        return cutoffs == 0 ? 0 : 100.0 * firstMoveCutoffs / cutoffs;
+    }
+}
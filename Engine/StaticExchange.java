@@ -0,0 +1,110 @@
+package Engine;
+
+import static Engine.PieceType.*;
+
+public final class StaticExchange {
+    private StaticExchange() {
+    }
+
+    public static final int MAX_EXCHANGES = 32; // every piece on board captures at most once, the gains buffer size
+
+    private static final ThreadLocal<int[]> GAINS = ThreadLocal.withInitial(() -> new int[MAX_EXCHANGES]);
+
+    /**
+     * Get the material given move wins in centipawns once both sides made all their profitable recaptures on its target
+     * square, using the cheapest attacker each time (x-ray attackers join as the pieces in front of them capture).
+     * Negative when the move loses material, quiet moves score what they lose to the best capture sequence on their square.
+     */
+    public static int evaluate(Position position, int move) {
+        return evaluate(position, move, GAINS.get());
+    }
+
+    /**
+     * Same as evaluate(position, move) with a caller owned gains buffer of MAX_EXCHANGES, for the search's hot loops
+     */
+    public static int evaluate(Position position, int move, int[] gains) {
+        int flags = Move.getFlags(move);
+        if (flags == Move.KING_CASTLE || flags == Move.QUEEN_CASTLE) return 0;
+        int from = Move.getFrom(move);
+        int to = Move.getTo(move);
+        int mover = position.getPiece(from);
+        int color = colorOf(mover);
+
+        long occupied = position.getOccupied() ^ Bitboards.bit(from);
+        int attackerValue = Evaluation.PIECE_VALUES[typeOf(mover)];
+        if (flags == Move.EN_PASSANT) {
+            gains[0] = Evaluation.PIECE_VALUES[PAWN];
+            occupied ^= Bitboards.bit(to - LeaperAttacks.pawnForward(color));
+        } else {
+            int captured = position.getPiece(to);
+            gains[0] = (captured == NONE) ? 0 : Evaluation.PIECE_VALUES[typeOf(captured)];
+        }
+        if (Move.isPromotion(move)) {
+            attackerValue = Evaluation.PIECE_VALUES[Move.getPromotionType(move)];
+            gains[0] += attackerValue - Evaluation.PIECE_VALUES[PAWN];
+        }
+        if (typeOf(mover) == KING) {
+            attackerValue = Evaluation.PIECE_VALUES[QUEEN] * 2; // a legal king capture is never recaptured
+        }
+
+        int side = opposite(color);
+        int depth = 0;
+        long attackers = position.attackersTo(to, occupied) & occupied;
+        while (depth < MAX_EXCHANGES - 1) {
+            long sideAttackers = attackers & position.getColorPieces(side);
+            if (sideAttackers == 0) break;
+            int type = cheapestAttackerType(position, side, sideAttackers);
+            if (type == KING && (attackers & position.getColorPieces(opposite(side))) != 0) break; // king can't capture defended
+
+            depth++;
+            gains[depth] = attackerValue - gains[depth - 1]; // capture the last capturer, it may be recaptured
+            attackerValue = Evaluation.PIECE_VALUES[type];
+            occupied ^= Long.lowestOneBit(sideAttackers & position.getPieces(side, type));
+            attackers = position.attackersTo(to, occupied) & occupied; // sliders behind the capturer join
+            side = opposite(side);
+        }
+        while (depth > 0) {
+            gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]); // each side may stop capturing instead
+            depth--;
+        }
+        return gains[0];
+    }
+
+    /**
+     * Check if given move doesn't lose material by the static exchange
+     */
+    public static boolean isSafe(Position position, int move) {
+        return evaluate(position, move) >= 0;
+    }
+
+    /**
+     * Get bitboard of given color's pieces that the opposite color can win material from by capturing them right now
+     * (for warning about hanging pieces, it doesn't search, so pinned attackers and checks are not taken into account)
+     */
+    public static long hangingPieces(Position position, int color) {
+        int them = opposite(color);
+        long hanging = 0L;
+        long occupied = position.getOccupied();
+        for (long pieces = position.getColorPieces(color) & ~position.getPieces(color, KING); pieces != 0; pieces &= pieces - 1) {
+            int square = Bitboards.lowestSquare(pieces);
+            long attackers = position.attackersTo(square, occupied) & position.getColorPieces(them);
+            if (attackers == 0) continue;
+            int type = cheapestAttackerType(position, them, attackers);
+            int from = Bitboards.lowestSquare(attackers & position.getPieces(them, type));
+            if (evaluate(position, Move.make(from, square, Move.CAPTURE)) > 0) {
+                hanging |= Bitboards.bit(square);
+            }
+        }
+        return hanging;
+    }
+
+    /**
+     * Get the cheapest piece type of given color among given attackers
+     */
+    private static int cheapestAttackerType(Position position, int color, long attackers) {
+        for (int type = PAWN; type < KING; type++) {
+            if ((attackers & position.getPieces(color, type)) != 0) return type;
+        }
+        return KING;
+    }
+}
@@ -0,0 +1,117 @@
+package Engine;
+
+public class TranspositionTable extends LockFreeTable {
+    public static final int DEFAULT_SIZE_MB = 16;
+    public static final long MISS = 0L; // stored data always has a bound, so empty data never matches a key
+
+    // Bound types of a stored score:
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2; // score failed high, the real score is at least this
+    public static final int UPPER_BOUND = 3; // score failed low, the real score is at most this
+
+    // Data layout: bits 0-15 best move, 16-31 score, 32-39 depth, 40-41 bound, 42-47 generation
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int GENERATION_SHIFT = 42;
+    private static final int GENERATION_MASK = 0x3F;
+
+    private static final int BUCKET_ENTRIES = 2; // the depth preferred entry then the always replace entry
+
+    private int generation = 0; // age of the current search, entries of older searches are replaced first
+
+    /**
+     * Create table of given size in megabytes (rounded down to a power of two buckets)
+     */
+    public TranspositionTable(int sizeMb) {
+        super(sizeMb, BUCKET_ENTRIES);
+    }
+
+
+    // Probe & store:
+
+    /**
+     * Get data stored for given key, MISS if there is none (read it with getMove, getScore, getDepth and getBound)
+     */
+    public long probe(long key) {
+        int bucket = bucket(key);
+        for (int entry = bucket; entry < bucketEnd(bucket); entry += ENTRY_LONGS) {
+            long data = getData(entry);
+            if (holdsKey(entry, key, data) && data != MISS) {
+                countProbe(true);
+                return data;
+            }
+        }
+        countProbe(false);
+        return MISS;
+    }
+
+    /**
+     * Store search result of given key. The depth preferred entry takes it if it holds the same key, a shallower
+     * result or a result of an older search, otherwise the always replace entry does.
+     * A result without best move keeps the best move stored before for the same key.
+     */
+    public void store(long key, int depth, int bound, int score, int move) {
+        int bucket = bucket(key);
+        long preferredData = getData(bucket);
+        int entry = bucket + ENTRY_LONGS;
+        if (holdsKey(bucket, key, preferredData) || getDepth(preferredData) <= depth || getGeneration(preferredData) != generation) {
+            entry = bucket;
+        }
+
+        if (move == Move.NONE) {
+            long oldData = getData(entry);
+            if (holdsKey(entry, key, oldData)) {
+                move = getMove(oldData);
+            }
+        }
+        long data = (move & 0xFFFFL) | ((score & 0xFFFFL) << SCORE_SHIFT) | ((long) depth << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT) | ((long) generation << GENERATION_SHIFT);
+        write(entry, key, data);
+    }
+
+    /**
+     * Start a new search, the entries of former searches become replaceable (call before the search threads start)
+     */
+    public void newSearch() {
+        generation = (generation + 1) & GENERATION_MASK;
+    }
+
+
+    // Data fields:
+
+    /**
+     * Get best move of given data, Move.NONE if none was stored
+     */
+    public static int getMove(long data) {
+        return (int) (data & 0xFFFF);
+    }
+
+    /**
+     * Get score of given data
+     */
+    public static int getScore(long data) {
+        return (short) (data >>> SCORE_SHIFT);
+    }
+
+    /**
+     * Get searched depth of given data
+     */
+    public static int getDepth(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    /**
+     * Get bound type of given data's score
+     */
+    public static int getBound(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     * Get search generation of given data
+     */
+    private static int getGeneration(long data) {
+        return (int) (data >>> GENERATION_SHIFT) & GENERATION_MASK;
+    }
+}
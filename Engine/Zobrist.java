@@ -0,0 +1,68 @@
+package Engine;
+
+public final class Zobrist {
+    private Zobrist() {
+    }
+
+    private static final long SEED = 0x2545F4914F6CDD1DL; // fixed seed, so keys are the same in every run
+
+    // Random keys of each position feature:
+    private static final long[][] PIECE_SQUARE = new long[PieceType.PIECES][Bitboards.SQUARES];
+    private static final long[] CASTLING = new long[Position.ALL_CASTLING + 1];
+    private static final long[] EN_PASSANT_FILE = new long[Bitboards.BOARD_SIZE];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        long[] state = {SEED};
+        for (long[] squares : PIECE_SQUARE) {
+            for (int square = 0; square < Bitboards.SQUARES; square++) {
+                squares[square] = nextRandom(state);
+            }
+        }
+        for (int rights = 1; rights <= Position.ALL_CASTLING; rights++) { // no rights keeps key 0
+            CASTLING[rights] = nextRandom(state);
+        }
+        for (int col = 0; col < Bitboards.BOARD_SIZE; col++) {
+            EN_PASSANT_FILE[col] = nextRandom(state);
+        }
+        BLACK_TO_MOVE = nextRandom(state);
+    }
+
+    /**
+     * Get key of given piece code on given square
+     */
+    public static long piece(int piece, int square) {
+        return PIECE_SQUARE[piece][square];
+    }
+
+    /**
+     * Get key of given castling rights bits
+     */
+    public static long castling(int castlingRights) {
+        return CASTLING[castlingRights];
+    }
+
+    /**
+     * Get key of given en passant square's file, 0 if there is no en passant square
+     */
+    public static long enPassant(int enPassantSquare) {
+        return enPassantSquare == Bitboards.NO_SQUARE ? 0L : EN_PASSANT_FILE[Bitboards.getCol(enPassantSquare)];
+    }
+
+    /**
+     * Get key of given side to move (only black changes the key)
+     */
+    public static long side(int color) {
+        return color == PieceType.BLACK ? BLACK_TO_MOVE : 0L;
+    }
+
+    /**
+     * Get next number of a SplitMix64 sequence kept in given state
+     */
+    private static long nextRandom(long[] state) {
+        long z = (state[0] += 0x9E3779B97F4A7C15L);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -2,15 +2,18 @@ package GameWindow;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GameFrame {
     protected static final int FRAME_WIDTH = 600;
     protected static final int FRAME_HEIGHT = 600;
-    private static JFrame frame = null;
-    private static int gamesCounter = 1;
+    private static final AtomicInteger gamesCounter = new AtomicInteger(1); // only numbers the window titles
+    private final JFrame frame;
+    private final int gameNumber;
 
     public GameFrame(GamePanel gamePanel) {
-        JFrame jframe = new JFrame("Game Number:" + gamesCounter);
+        gameNumber = gamesCounter.getAndIncrement();
+        JFrame jframe = new JFrame("Game Number:" + gameNumber);
         frame = jframe;
         jframe.setSize(FRAME_WIDTH, FRAME_HEIGHT);
         jframe.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE); // set end program by clicking exit
@@ -24,11 +27,20 @@ public class GameFrame {
         int topBorder = insets.top;
         int bottomBorder = insets.bottom;
         jframe.setBounds(0, 0, FRAME_WIDTH + leftBorder + rightBorder,FRAME_HEIGHT + topBorder + bottomBorder);
-        gamesCounter++;
     }
 
-    public static JFrame getFrame(String gameMessage){
+    /**
+     * Get this game's window
+     */
+    public JFrame getFrame() {
         return frame;
     }
 
-}
\ No newline at end of file
+    /**
+     * Get this game's number in the window title
+     */
+    public int getGameNumber() {
+        return gameNumber;
+    }
+
+}
@@ -1,6 +1,16 @@
 package GameWindow;
 
-import Pieces.*;
+import Engine.Bitboards;
+import Engine.Game;
+import Engine.GameStatus;
+import Engine.Move;
+import Engine.ParallelSearch;
+import Engine.PieceType;
+import Engine.Position;
+import Engine.PositionSnapshot;
+import Engine.Search;
+import Engine.TranspositionTable;
+import Pieces.PieceColor;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -11,8 +21,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.Scanner;
+import java.util.concurrent.ExecutionException;
 import java.io.BufferedWriter;
 
 
@@ -27,6 +37,8 @@ public class GamePanel extends JPanel {
     private static final Color PICKED_PIECE_COLOR = new Color(255, 229, 110);
     private static final Color HIGHLIGHT_MOVE_COLOR = PICKED_PIECE_COLOR.brighter();
     private static final Color HIGHLIGHT_ATTACK_COLOR = new Color(236, 124, 124);
+    private static final String[] COLOR_NAMES = {"White", "Black"}; // image file name parts by color and piece type
+    private static final String[] PIECE_NAMES = {"Pawn", "Knight", "Bishop", "Rook", "Queen", "King"};
 
 
     // Game logic
@@ -37,28 +49,21 @@ public class GamePanel extends JPanel {
 
     // gamePanel setting:
     private final MouseInputs mouseInputs;
-    private final ArrayList<Tile> boardTiles = new ArrayList<>();
+    private final Tile[] boardTiles = new Tile[Bitboards.SQUARES];
+    private final Game game = new Game(); // headless rules engine, the tiles only show its position
+    private SwingWorker<Integer, Void> searchWorker = null; // computer player's search, runs off the event thread
+    private TranspositionTable searchTable = null; // computer player's table, kept between moves, created on its first move
+    private final ParallelSearch[] computerSearches = new ParallelSearch[2]; // each side's search by color, kept between moves
+    private final Image[] pieceImages = new Image[PieceType.PIECES]; // image of each piece code, read on first draw
     private Graphics graph;
 
-    // Pawn promotion:
-    private Piece promotionPawn = null;
-    private boolean promotion = false;
-
     // White Player settings:
     private final Player whitePlayer;
     private final PieceColor white;
-    private boolean whiteCheck;
-    private ArrayList<Piece> whitePlayerPieces;
-    private final ArrayList<Tile> whiteThreatenTiles = new ArrayList<>();
-    private ArrayList<Piece> whitePieces;
 
     // Black Player settings
     private final Player blackPlayer;
     private final PieceColor black;
-    private boolean blackCheck;
-    private ArrayList<Piece> blackPlayerPieces;
-    private final ArrayList<Tile> blackThreatenTiles = new ArrayList<>();
-    private ArrayList<Piece> blackPieces;
 
     // Initialize game:
 
@@ -82,20 +87,12 @@ public class GamePanel extends JPanel {
     public void createBoardTiles() {
         for (int row = 0; row < 8; row++) {
             for (int col = 0; col < 8; col++) {
-                Tile tile = new Tile(row, col, this);
-                this.boardTiles.add(tile);
+                Tile tile = new Tile(row, col);
+                this.boardTiles[tile.getSquare()] = tile;
             }
         }
     }
 
-    /**
-     * Set players pieces
-     */
-    public void setPlayersPieces(ArrayList<Piece> white, ArrayList<Piece> black) {
-        whitePlayerPieces = white;
-        blackPlayerPieces = black;
-    }
-
     /**
      * Update turn number and prepare for next turn
      */
@@ -107,29 +104,21 @@ public class GamePanel extends JPanel {
     /**
      * Check if there is a win or draw
      */
-    public void determentDrawOrWin(int totalPlayerMoves) {
+    public void determentDrawOrWin() {
         if (!runGame) return;
 
-        if (isCheckmate(totalPlayerMoves)) {
+        if (isCheckmate()) {
             String gameMessage = getCurrentColor() + " is the winner!";
             System.out.println(gameMessage);
             runGame = false; // end game by checkmate
 
-        } else if (isDraw(totalPlayerMoves)) {
-            String gameMessage = "That's a Draw!";
+        } else if (isDraw()) {
+            String gameMessage = "That's a Draw by " + game.status().getDescription() + "!";
             System.out.println(gameMessage);
             runGame = false; // end game by draw
         }
     }
 
-    /**
-     * Updates players pieces set
-     */
-    public void updatePlayersPiecesSet() {
-        whitePieces = white.getPlayerPieces();
-        blackPieces = black.getPlayerPieces();
-    }
-
 
 
     // Game logic:
@@ -140,30 +129,16 @@ public class GamePanel extends JPanel {
             exportMovesToFile();
             return;
         }
-        if (!promotion) {
-            updatePlayersPiecesSet();
-            resetPlayersPiecesMoves();
-            passGraphObject(graph);
-            updatePlayersChecks();
-            paintTiles();
-            drawPieceInPosition(whitePieces, blackPieces);
-            promotionPawn = null;
-
-            if (isNextTurn) { // if piece moved or attacked
-                resetThreatenPosition();
-                printTurnStats();
-                determentDrawOrWin(totalPlayerMoves());
-                getCurrentColor().setTwoStepPawnFalse(); // update pawn location for En Passant
-                resetPiecesMoves();
-                prepareNextTurn();
-            }
+        passGraphObject(graph);
+        paintTiles();
+        drawPieces();
 
-        } else if (promotionPawn != null) { // promote pawn
-            Piece promotedPiece = initiatePromotion();
-            resetPromotionValues();
-            mouseInputs.updatePromotionRecord(promotedPiece);
-            paintComponent(graph);
+        if (isNextTurn) { // if piece moved or attacked
+            printTurnStats();
+            determentDrawOrWin();
+            prepareNextTurn();
         }
+        requestComputerMove();
     }
 
     /**
@@ -206,151 +181,116 @@ public class GamePanel extends JPanel {
     /**
      * Checks for checkmate on board
      */
-    public boolean isCheckmate(int totalMoves) {
-        PieceColor color = getCurrentColor().getOppositeColor();
-        return (totalMoves == 0 && color.getPlayerCheck());
+    public boolean isCheckmate() {
+        return game.status() == GameStatus.CHECKMATE;
     }
 
     /**
      * Check for draw
      */
-    public boolean isDraw(int totalMoves) {
-        PieceColor color = getCurrentColor().getOppositeColor();
-        return (totalMoves == 0 && !color.getPlayerCheck());
+    public boolean isDraw() {
+        return game.status().isDraw();
     }
 
     /**
-     * Counts player's available moves number
+     * Highlight the tiles of the legal moves starting on given square and return their amount
      */
-    public int totalPlayerMoves(ArrayList<Piece> pieces) {
-        int totalMovesCounter = 0;
-        for (Piece piece : pieces) {
-            resetAvailableMovesHighlight(); // remove highlight older move
-            piece.resetMovesPossibilities(); // reset boolean move calculation values
-            piece.calcPossibleMoves(false); // calc moves and color the tiles in board
-            removeIllegalCheckMoves(piece); // CHECK MOVES REMOVER
-            totalMovesCounter += piece.pieceMovesCalculation.size();
+    public int highlightPieceMoves(int square) {
+        long targets = game.getMoveTargets(square); // cached for the whole turn, no move generation per click
+        long captures = game.getCaptureTargets(square);
+        for (long moves = targets; moves != 0; moves &= moves - 1) {
+            int to = Bitboards.lowestSquare(moves);
+            if (Bitboards.contains(captures, to)) {
+                getTile(to).setAvailableAttack(true);
+            } else {
+                getTile(to).setAvailableMove(true);
+            }
         }
-        return totalMovesCounter;
+        return Bitboards.count(targets);
     }
 
     /**
-     * calculates player total moves
+     * Play the legal move between given squares through the game, returns if it was played
      */
-    public int totalPlayerMoves() {
-        PieceColor color = getCurrentColor().getOppositeColor();
-        int totalMoves = totalPlayerMoves(color.getPlayerPieces());
-        resetThreatenPosition();
-        return totalMoves;
+    public boolean playMove(int from, int to) {
+        int move = game.findMove(from, to, PieceType.QUEEN);
+        if (move == Move.NONE) return false;
+        if (Move.isPromotion(move)) {
+            move = game.findMove(from, to, scanPromotionPickedPiece());
+        }
+        return playMove(move);
     }
 
     /**
-     * Return if player doing checks
+     * Play given move through the game, returns false if the game refused it (illegal move or the game is over)
      */
-    public boolean checksIdentifier(PieceColor color) {
-        PieceColor oppositeColor = color.getOppositeColor();
-        resetPieceChecks(oppositeColor.getPlayerPieces());
-        int checks = checkCounter(oppositeColor.getPlayerPieces());
-        setThreatenPosition();
-        return checks > 0;
+    public boolean playMove(int move) {
+        String record = getMoveRecord(move); // before the move, it reads the moving piece
+        if (!game.play(move)) return false;
+        getPlayerByColor(getCurrentColor()).getPlayerMovesRecord().add(record);
+        resetAvailableMovesHighlight();
+        nextTurn();
+        return true;
     }
 
-    /**
-     * Count the amount of checks player doing
-     */
-    public int checkCounter(ArrayList<Piece> pieces) {
-        int checkCount = 0;
-        for (Piece piece : pieces) {
-            piece.setCheck(false);
-            if (!(piece instanceof King)) {
-                piece.resetMovesPossibilities();
-                piece.calcPossibleMoves(false);
-                if (piece.getCheck()) {
-                    checkCount++;
-                }
-            }
-            updateTotalPlayerMoves(piece);
-        }
-        return checkCount;
-    }
 
-    /**
-     * update players total moves
-     */
-    public void updateTotalPlayerMoves(Piece piece) {
-        for (Tile tile : piece.pieceMovesCalculation) {
-            if (removeDuplicateTile(piece.getColor().getTotalPlayerTiles(), tile)) {
-                piece.getColor().getTotalPlayerTiles().add(tile);
-            }
-        }
-    }
+    // Computer player:
 
     /**
-     * remove illegal moves that exposing/not blocking checks
+     * Check if the computer plays the side to move
      */
-    public void removeIllegalCheckMoves(Piece pickedPiece) {
-        ArrayList<Tile> pieceMovesCopy = new ArrayList<>(pickedPiece.pieceMovesCalculation);
-        int originalRow = pickedPiece.getRow();
-        int originalCol = pickedPiece.getCol();
-        pickedPiece.getPieceTile().setTilePiece(null);
-        calcLegalMoves(pieceMovesCopy, pickedPiece);
-        setPieceOriginalPosition(pickedPiece, originalRow, originalCol, pieceMovesCopy);
+    public boolean isComputerTurn() {
+        return getPlayerBySide(game.getSideToMove()).isComputer();
     }
 
     /**
-     * Calculates piece legal moves
+     * Start searching the computer's move on a worker thread if it is the computer's turn and no search runs yet,
+     * the found move is played on the event thread once the search ends
      */
-    public void calcLegalMoves(ArrayList<Tile> pieceMovesCopy, Piece pickedPiece) {
-        Piece checkBlockPiece = null;
-        for (Tile tile : pieceMovesCopy) {
-            Tile realTile = tile.findTileInList(boardTiles);
-            if (realTile == null) return;
-            int row = realTile.getRow();
-            int col = realTile.getCol();
-            Piece piece = getTile(row, col).getTilePiece();
-            Tile pickedTile = getTile(row, col);
+    public void requestComputerMove() {
+        if (!runGame || searchWorker != null || !isComputerTurn() || game.status().isOver()) return;
+        Player player = getPlayerBySide(game.getSideToMove());
+        int depth = (player.getSearchDepth() > 0) ? player.getSearchDepth() : Search.MAX_DEPTH;
+        Position position = new Position(game.getPosition()); // the search's own copy, the board keeps the original
+        int playedCount = game.getPlayedCount();
+        ParallelSearch search = getComputerSearch(game.getSideToMove());
+        search.setFiftyMoveDraw(game.isFiftyMoveDraw()); // the search scores draws by the game's rules
 
-            if (piece != null && !(piece.getColor()).equals(pickedPiece.getColor())) {
-                checkBlockPiece = piece;
-                pickedTile.setTilePiece(null);
-                checkBlockPiece.setAlive(false);
-                getPlayerByColor(piece.getColor()).removePieceFromSet(checkBlockPiece);
+        searchWorker = new SwingWorker<>() {
+            @Override
+            protected Integer doInBackground() throws InterruptedException {
+                return search.findBestMove(position, depth, player.getSearchMillis());
             }
 
-            pickedPiece.setRow(row);
-            pickedPiece.setCol(col);
-            pickedPiece.getPieceTile().setTilePiece(pickedPiece);
-
-            boolean isCheck = checksIdentifier(pickedPiece.getColor());
-            illegalMoveDefined(isCheck, pickedPiece, realTile);
-            restoreCheckBlockPiece(checkBlockPiece, pickedTile);
-            pickedPiece.getPieceTile().setTilePiece(null);
-        }
-    }
-
-    /**
-     * Remove illegal move from piece's available move arraylist
-     */
-    public void illegalMoveDefined(boolean isCheck, Piece pickedPiece, Tile realTile) {
-        if (isCheck) {
-            if (removeDuplicateTile(pickedPiece.tilesToRemoveCalculation, realTile)) {
-                pickedPiece.tilesToRemoveCalculation.add(realTile);
-                realTile.setAvailableMove(false);
-                realTile.setAvailableAttack(false);
+            @Override
+            protected void done() {
+                searchWorker = null;
+                try {
+                    int move = get();
+                    if (runGame && game.getPlayedCount() == playedCount && move != Move.NONE) {
+                        playMove(move);
+                        repaint();
+                    }
+                } catch (InterruptedException | ExecutionException e) {
+                    System.out.println("Computer search failed: " + e.getMessage());
+                }
             }
-        }
+        };
+        searchWorker.execute();
     }
 
     /**
-     * Restore piece back to the tile and player's set
+     * Get the search of given side's computer player, created on its first move with the player's thread count, both
+     * sides share the table (only one search runs at a time)
      */
-    public void restoreCheckBlockPiece(Piece checkBlockPiece, Tile pickedTile) {
-        if (checkBlockPiece == null) return;
-        if (removeDuplicatePiece(checkBlockPiece.getColor().getPlayerPieces(), checkBlockPiece)) {
-            getPlayerByColor(checkBlockPiece.getColor()).addPieceToSet(checkBlockPiece);
+    private ParallelSearch getComputerSearch(int side) {
+        if (searchTable == null) {
+            searchTable = new TranspositionTable(TranspositionTable.DEFAULT_SIZE_MB);
         }
-        checkBlockPiece.setAlive(true);
-        pickedTile.setTilePiece(checkBlockPiece);
+        if (computerSearches[side] == null) {
+            computerSearches[side] = new ParallelSearch(getPlayerBySide(side).getSearchThreads(), searchTable);
+        }
+        return computerSearches[side];
     }
 
     /**
@@ -359,73 +299,29 @@ public class GamePanel extends JPanel {
     public void passGraphObject(Graphics graph) {
         this.graph = graph; // set graph
         super.paintComponent(graph); // pass Graphic obj to Jcomponent to prevent image glitching
-        for (Tile tile : boardTiles) {
-            tile.setGraph(graph);
-        }
     }
 
 
     // Tile & Piece functions:
 
     /**
-     * Set each piece in its tile
+     * Get given move's record (piece denote and target coordinates) for the current player moves record
      */
-    public void setPieceInTile(ArrayList<Piece> pieces) {
-        for (Piece piece : pieces) {
-            setTilePiece(piece);
-        }
-    }
-
-    /**
-     * Set threat color for each tile
-     */
-    public void setThreatenPosition() {
-        for (Tile tile : boardTiles) {
-            if (tile.getWhiteThreat()) {
-                if (removeDuplicateTile(whiteThreatenTiles, tile)) {
-                    whiteThreatenTiles.add(tile);
-                }
-            }
-            if (tile.getBlackThreat()) {
-                if (removeDuplicateTile(blackThreatenTiles, tile)) {
-                    blackThreatenTiles.add(tile);
-                }
-            }
-        }
-    }
-
-    /**
-     * Prevent from adding duplicate tiles to given array
-     */
-    public boolean removeDuplicateTile(ArrayList<Tile> threatenTiles, Tile tile) {
-        for (Tile threatTile : threatenTiles) {
-            if (threatTile.equals(tile)) {
-                return false;
+    public String getMoveRecord(int move) {
+        int flags = Move.getFlags(move);
+        String record;
+        if (flags == Move.KING_CASTLE) {
+            record = "O-O";
+        } else if (flags == Move.QUEEN_CASTLE) {
+            record = "O-O-O";
+        } else {
+            String pieceRecord = String.valueOf(PieceType.denote(PieceType.typeOf(game.getPiece(Move.getFrom(move)))));
+            if (Move.isPromotion(move)) {
+                pieceRecord += "=" + PieceType.denote(Move.getPromotionType(move));
             }
+            record = pieceRecord + "_" + Bitboards.squareName(Move.getTo(move));
         }
-        return true;
-    }
-
-    /**
-     * Prevent from adding duplicate pieces to given array
-     */
-    public boolean removeDuplicatePiece(ArrayList<Piece> pieces, Piece piece) {
-        for (Piece pieceInSet : pieces) {
-            if (pieceInSet.equals(piece)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Set piece in its tile
-     */
-    public void setTilePiece(Piece piece) {
-        int row = piece.getRow();
-        int col = piece.getCol();
-        int index = row * 8 + col;
-        this.boardTiles.get(index).setTilePiece(piece);
+        return record;
     }
 
     /**
@@ -437,76 +333,6 @@ public class GamePanel extends JPanel {
         this.gameMoves.add(turnInfo);
     }
 
-    /**
-     * Resets every available move for every piece on board
-     */
-    public void resetPlayersPiecesMoves() {
-        white.resetPiecesAvailableMoves();
-        black.resetPiecesAvailableMoves();
-        whitePlayer.resetTotalMove();
-        blackPlayer.resetTotalMove();
-    }
-
-    /**
-     * Updates players check situation
-     */
-    public void updatePlayersChecks() {
-        whiteCheck = checksIdentifier(PieceColor.WHITE);
-        blackCheck = checksIdentifier(PieceColor.BLACK);
-    }
-
-    /**
-     * Restore the original pickedPiece position
-     */
-    public void setPieceOriginalPosition(Piece pickedPiece, int originalRow, int originalCol, ArrayList<Tile> pieceMovesCopy) {
-        pickedPiece.setRow(originalRow);
-        pickedPiece.setCol(originalCol);
-        pickedPiece.getPieceTile().setTilePiece(pickedPiece);
-        pieceMovesCopy.removeAll(pickedPiece.tilesToRemoveCalculation);
-        setPieces(pickedPiece.getColor().getPlayerPieces());
-        pickedPiece.pieceMovesCalculation.clear();
-        pickedPiece.pieceMovesCalculation.addAll(pieceMovesCopy);
-    }
-
-    /**
-     * Reset check for every piece
-     */
-    public void resetPieceChecks(ArrayList<Piece> pieces) {
-        for (Piece piece : pieces) {
-            if (piece.getCheck()) {
-                piece.setCheck(false);
-            }
-        }
-    }
-
-    /**
-     * Reset pieces available move tiles arraylists moves
-     */
-    public void resetPiecesMoves() {
-        for (Piece piece : whitePlayerPieces) {
-            piece.pieceMovesCalculation.clear();
-            piece.tilesToRemoveCalculation.clear();
-            piece.pieceAvailableTiles.clear();
-        }
-        for (Piece piece : blackPlayerPieces) {
-            piece.pieceMovesCalculation.clear();
-            piece.tilesToRemoveCalculation.clear();
-            piece.pieceAvailableTiles.clear();
-        }
-    }
-
-    /**
-     * Resets white and black threats for each tile
-     */
-    public void resetThreatenPosition() {
-        for (Tile tile : boardTiles) {
-            tile.setWhiteThreat(false);
-            tile.setBlackThreat(false);
-        }
-        whiteThreatenTiles.clear();
-        blackThreatenTiles.clear();
-    }
-
     /**
      * Reset tiles available moves
      */
@@ -518,24 +344,9 @@ public class GamePanel extends JPanel {
             if (tile.getAvailableAttack()) {
                 tile.setAvailableAttack(false);
             }
-            if (tile.getKingMove()) {
-                tile.setKingMove(false);
-            }
-            if (tile.getCastlingTile()) {
-                tile.setCastlingTile(false);
-            }
         }
     }
 
-    /**
-     * Reset promotion attributes for next play
-     */
-    public void resetPromotionAttributes() {
-        setPromotion(false);
-        promotionPawn = null;
-        resetAvailableMovesHighlight();
-    }
-
     /**
      * Returns current player turn color
      */
@@ -550,99 +361,64 @@ public class GamePanel extends JPanel {
      * Return picked tile from game board tiles
      */
     public Tile getTile(int row, int col) {
-        for (Tile tile : getBoardTiles()) {
-            if ((tile.getRow() == row) && (tile.getCol() == col)) {
-                return tile;
-            }
+        if (!Bitboards.isOnBoard(row, col)) {
+            return null;
         }
-        return null;
+        return boardTiles[Bitboards.square(row, col)];
     }
 
     /**
-     * Set piece object in its owen tile
+     * Return tile of given square index from game board tiles
      */
-    public void setPieces(ArrayList<Piece> pieces) {
-        for (Piece piece : pieces) {
-            int row = piece.getRow();
-            int col = piece.getCol();
-            getTile(row, col).setTilePiece(piece);
-        }
+    public Tile getTile(int square) {
+        return boardTiles[square];
     }
 
 
     // Promotion:
 
     /**
-     * Scan from user wanted piece
+     * Scan from user wanted piece and return its piece type
      */
-    public String scanPromotionPickedPiece() {
-        String name = "";
+    public int scanPromotionPickedPiece() {
         Scanner scan = new Scanner(System.in);
-        boolean toggle = true;
         System.out.println("Enter wanted piece name: ");
-        while (toggle) {
+        while (true) {
             String piece = scan.nextLine();
             if (piece.equalsIgnoreCase("queen") || piece.equalsIgnoreCase("rook") || piece.equalsIgnoreCase("knight") || piece.equalsIgnoreCase("bishop")) {
-                toggle = false;
-                name = piece;
-            } else {
-                System.out.println("Enter valid piece name (queen, rook, bishop, knight): ");
+                return getPromotionType(piece);
             }
+            System.out.println("Enter valid piece name (queen, rook, bishop, knight): ");
         }
-        return name;
     }
 
     /**
-     * Initialize the promotion pawn to the picked piece
+     * Get piece type of given promotion piece name
      */
-    public Piece initializePromotedPiece(String name, int row, int col, PieceColor color, GamePanel gamePanel) {
+    public int getPromotionType(String name) {
         name = name.toLowerCase();
         return switch (name) {
-            case "queen" -> new Queen(true, row, col, color, gamePanel);
-            case "rook" -> new Rook(true, row, col, color, gamePanel);
-            case "bishop" -> new Bishop(true, row, col, color, gamePanel);
-            case "knight" -> new Knight(true, row, col, color, gamePanel);
+            case "queen" -> PieceType.QUEEN;
+            case "rook" -> PieceType.ROOK;
+            case "bishop" -> PieceType.BISHOP;
+            case "knight" -> PieceType.KNIGHT;
             default -> throw new IllegalArgumentException("Invalid piece name: " + name);
         };
     }
 
-    /**
-     * Reset promotion attributes after promoting
-     */
-    public void resetPromotionValues() {
-        setPromotion(false);
-        promotionPawn.removePieceFromSet(promotionPawn);
-        mouseInputs.resetAttributesAfterPromotion();
-        resetPromotionAttributes();
-    }
-
-    /**
-     * Start pawn promotion process
-     */
-    public Piece initiatePromotion() {
-        int row = promotionPawn.getRow();
-        int col = promotionPawn.getCol();
-        PieceColor color = promotionPawn.getColor();
-        String name = scanPromotionPickedPiece();
-        Piece promotedPiece = initializePromotedPiece(name, row, col, color, this);
-        getTile(row, col).setTilePiece(promotedPiece);
-        promotedPiece.addPieceToSet(promotedPiece);
-        return promotedPiece;
-    }
-
 
     // Draw function:
 
     /**
-     * Draw white and black pieces on board
+     * Draw the game position's pieces on their tiles
      */
-    public void drawPieceInPosition(ArrayList<Piece> whitePlayerPieces, ArrayList<Piece> blackPlayerPieces) {
-        try {
-            createPiecesSet(whitePlayerPieces, graph);
-            createPiecesSet(blackPlayerPieces, graph);
-        } catch (IOException e) {
-            e.printStackTrace();
-            throw new RuntimeException("Failed to draw game pieces.");
+    public void drawPieces() {
+        for (int square = 0; square < Bitboards.SQUARES; square++) {
+            int piece = game.getPiece(square);
+            if (piece != PieceType.NONE) {
+                graph.drawImage(getPieceImage(piece), SQUARE_SIDE * Bitboards.getCol(square), SQUARE_SIDE * Bitboards.getRow(square),
+                        SQUARE_SIDE, SQUARE_SIDE, this);
+            }
         }
     }
 
@@ -652,61 +428,44 @@ public class GamePanel extends JPanel {
     public void paintTiles() {
         for (Tile tile : boardTiles) {
             if ((tile.getRow() + tile.getCol()) % 2 == 0) {
-                tile.setTileColor(BRIGHT_TILE_COLOR);
-                tile.getGraph().setColor(BRIGHT_TILE_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
+                paintTile(tile, BRIGHT_TILE_COLOR);
             } else {
-                tile.setTileColor(DARK_TILE_COLOR);
-                tile.getGraph().setColor(DARK_TILE_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
+                paintTile(tile, DARK_TILE_COLOR);
             }
             if (tile.getSelected()) {
-                tile.setTileColor(PICKED_PIECE_COLOR);
-                tile.getGraph().setColor(PICKED_PIECE_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
+                paintTile(tile, PICKED_PIECE_COLOR);
             }
             if (tile.getAvailableMove()) {
-                tile.setTileColor(HIGHLIGHT_MOVE_COLOR);
-                tile.getGraph().setColor(HIGHLIGHT_MOVE_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
+                paintTile(tile, HIGHLIGHT_MOVE_COLOR);
             }
             if (tile.getAvailableAttack()) {
-                tile.setTileColor(HIGHLIGHT_ATTACK_COLOR);
-                tile.getGraph().setColor(HIGHLIGHT_ATTACK_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
-            }
-            if (tile.getCastlingTile()) {
-                tile.setTileColor(HIGHLIGHT_MOVE_COLOR);
-                tile.getGraph().setColor(HIGHLIGHT_MOVE_COLOR);
-                tile.getGraph().fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
+                paintTile(tile, HIGHLIGHT_ATTACK_COLOR);
             }
         }
     }
 
     /**
-     * Arrange and drawing pieces on board
+     * Fill given tile's square with given color
      */
-    public void createPiecesSet(ArrayList<Piece> pieces, Graphics graph) throws IOException {
-        Iterator<Piece> iterator = pieces.iterator();
-        while (iterator.hasNext()) {
-            Piece piece = iterator.next();
-            if (piece.getIsAlive()) {
-                String color = piece.getColor().toString().substring(0, 1).toUpperCase() + piece.getColor().toString().substring(1).toLowerCase();
-                String pieceName = piece.getPieceName();
-                drawPiece(piece, IMAGES_PATH + color + "_" + pieceName + ".png", graph);
-            } else {
-                iterator.remove(); // Remove the piece from the ArrayList using the iterator
-            }
-        }
+    public void paintTile(Tile tile, Color color) {
+        graph.setColor(color);
+        graph.fillRect(tile.getCol() * SQUARE_SIDE, tile.getRow() * SQUARE_SIDE, SQUARE_SIDE, SQUARE_SIDE);
     }
 
     /**
-     * Draw given piece on board in its tile
+     * Get the image of given piece code, read from the pieces images directory on first use
      */
-    public void drawPiece(Piece piece, String path, Graphics graph) throws IOException { // draw the pieces on the chess board
-        Image img = ImageIO.read(new File(path));
-        graph.drawImage(img, SQUARE_SIDE * piece.getCol(), SQUARE_SIDE * piece.getRow(), SQUARE_SIDE, SQUARE_SIDE, this); // draw piece
-       // piece.setPieceImage(img); // set the matched image to piece
+    public Image getPieceImage(int piece) {
+        if (pieceImages[piece] == null) {
+            String name = COLOR_NAMES[PieceType.colorOf(piece)] + "_" + PIECE_NAMES[PieceType.typeOf(piece)];
+            try {
+                pieceImages[piece] = ImageIO.read(new File(IMAGES_PATH + name + ".png"));
+            } catch (IOException e) {
+                e.printStackTrace();
+                throw new RuntimeException("Failed to draw game pieces.");
+            }
+        }
+        return pieceImages[piece];
     }
 
 
@@ -719,20 +478,6 @@ public class GamePanel extends JPanel {
         return turnsNumber;
     }
 
-    /**
-     * Returns white player pieces
-     */
-    public ArrayList<Piece> getWhitePlayerPieces() {
-        return whitePlayerPieces;
-    }
-
-    /**
-     * Returns black player pieces
-     */
-    public ArrayList<Piece> getBlackPlayerPieces() {
-        return blackPlayerPieces;
-    }
-
     /**
      * Returns game player object by given color
      */
@@ -744,39 +489,18 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Returns white threaten tile arraylist
-     */
-    public ArrayList<Tile> getWhiteThreatenTiles() {
-        return whiteThreatenTiles;
-    }
-
-    /**
-     * Returns black threaten tile arraylist
-     */
-    public ArrayList<Tile> getBlackThreatenTiles() {
-        return blackThreatenTiles;
-    }
-
-    /**
-     * Returns white player acting a check
-     */
-    public boolean getWhiteCheck() {
-        return whiteCheck;
-    }
-
-    /**
-     * Returns black player acting a check
+     * Returns game player object by given side (PieceType.WHITE or PieceType.BLACK)
      */
-    public boolean getBlackCheck() {
-        return blackCheck;
+    public Player getPlayerBySide(int side) {
+        return (side == PieceType.WHITE) ? whitePlayer : blackPlayer;
     }
 
     /**
      * Returns move record
      */
     public String getMoveRecord() {
-        int lastRecord = getCurrentColor().getCurrentPlayer().getPlayerMovesRecord().size() - 1;
-        return getCurrentColor().getCurrentPlayer().getPlayerMovesRecord().get(lastRecord);
+        int lastRecord = getPlayerByColor(getCurrentColor()).getPlayerMovesRecord().size() - 1;
+        return getPlayerByColor(getCurrentColor()).getPlayerMovesRecord().get(lastRecord);
     }
 
     /**
@@ -801,12 +525,33 @@ public class GamePanel extends JPanel {
     }
 
     /**
-     * Returns game board tiles arraylist
+     * Returns game board tiles array
      */
-    public ArrayList<Tile> getBoardTiles() {
+    public Tile[] getBoardTiles() {
         return boardTiles;
     }
 
+    /**
+     * Returns the headless game this panel shows
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Returns game's bitboard position
+     */
+    public Position getPosition() {
+        return game.getPosition();
+    }
+
+    /**
+     * Returns an immutable snapshot of the shown position, safe to pass to other threads
+     */
+    public PositionSnapshot snapshot() {
+        return game.snapshot();
+    }
+
     /**
      * Return game gamePanel object
      */
@@ -848,52 +593,4 @@ public class GamePanel extends JPanel {
     public MouseInputs getMouseInputs() {
         return mouseInputs;
     }
-
-    /**
-     * Returns promotion pawn
-     */
-    public Piece getPromotionPawn() {
-        return promotionPawn;
-    }
-
-    /**
-     * Set pawn as promotion pawn
-     */
-    public void setPromotionPawn(Piece promotionPawn) {
-        this.promotionPawn = promotionPawn;
-    }
-
-    /**
-     * Set gamePanel promotion process value
-     */
-    public void setPromotion(boolean promotion) {
-        this.promotion = promotion;
-    }
-
-    /**
-     * Get if promotion is in process
-     */
-    public boolean getPromotion() {
-        return promotion;
-    }
-
-    /**
-     * Get king type piece by players color
-     */
-    public King getKingByColor(PieceColor color) {
-        if (color.equals(PieceColor.WHITE)) {
-            return getWhitePlayer().getWhiteKingType();
-        }
-        return getBlackPlayer().getBlackKingType();
-    }
-
-    /**
-     * Get player's pieces set by given color
-     */
-    public ArrayList<Piece> getPlayerPieces(PieceColor color){
-        if (color.equals(PieceColor.WHITE)){
-            return getWhitePlayerPieces();
-        }
-        return getBlackPlayerPieces();
-    }
-}
\ No newline at end of file
+}
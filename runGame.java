@@ -1,61 +1,56 @@
+import Engine.Search;
 import GameWindow.GameFrame;
 import GameWindow.GamePanel;
 import GameWindow.Player;
-import Pieces.Piece;
 import Pieces.PieceColor;
 import PiecesImages.SplitImage;
 
 import java.io.IOException;
-import java.util.ArrayList;
 
 public class runGame {
     private final Player whitePlayer;
     private final Player blackPlayer;
     private final GamePanel gamePanel;
 
+    public static final long DEFAULT_SEARCH_MILLIS = 2000;
+
+    /**
+     * Start game, "[computer side: white, black, both or none] [search millis] [search depth] [search threads]" lets
+     * the computer play
+     */
     public static void main(String[] args) throws IOException {
-        runGame game = new runGame();
+        String computerSide = (args.length > 0) ? args[0].toLowerCase() : "none";
+        long searchMillis = (args.length > 1) ? Long.parseLong(args[1]) : DEFAULT_SEARCH_MILLIS;
+        int searchDepth = (args.length > 2) ? Integer.parseInt(args[2]) : Search.MAX_DEPTH;
+        int searchThreads = (args.length > 3) ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        boolean computerWhite = computerSide.equals("white") || computerSide.equals("both");
+        boolean computerBlack = computerSide.equals("black") || computerSide.equals("both");
+        runGame game = new runGame(computerWhite, computerBlack, searchDepth, searchMillis, searchThreads);
     }
 
     public runGame() throws IOException {
+        this(false, false, 0, 0, 1);
+    }
+
+    public runGame(boolean computerWhite, boolean computerBlack, int searchDepth, long searchMillis, int searchThreads) throws IOException {
         PieceColor white = PieceColor.WHITE;
         PieceColor black = PieceColor.BLACK;
-        this.whitePlayer = new Player(white); // create white player
-        this.blackPlayer = new Player(black); // create black player
+        // create white & black players, human or computer
+        this.whitePlayer = computerWhite ? new Player(white, searchDepth, searchMillis, searchThreads) : new Player(white);
+        this.blackPlayer = computerBlack ? new Player(black, searchDepth, searchMillis, searchThreads) : new Player(black);
         this.gamePanel = new GamePanel(white, black, whitePlayer, blackPlayer);
-        white.setWhitePlayer(whitePlayer);
-        black.setBlackPlayer(blackPlayer);
         this.createChessGame();
-        white.setGamePanel(gamePanel);
-        black.setGamePanel(gamePanel);
         GameFrame gameFrame = new GameFrame(gamePanel);
         this.gamePanel.requestFocus();
     }
 
 
     /**
-     * Initiate players and chess game
+     * Initiate the pieces images and the board tiles, the pieces are drawn from the game position
      */
     public void createChessGame() throws IOException {
         SplitImage.initializePiecesImages();
-        ArrayList<Piece> whitePieces = whitePlayer.initializePieces(PieceColor.WHITE, gamePanel); // create white pieces set
-        ArrayList<Piece> blackPieces = blackPlayer.initializePieces(PieceColor.BLACK, gamePanel); // create black pieces set
         gamePanel.createBoardTiles(); // create board tiles
-
-        setCastlingTiles();
-        gamePanel.setPieceInTile(whitePieces); // set white pieces in tiles
-        gamePanel.setPieceInTile(blackPieces); // set black pieces in tiles
-        gamePanel.setPlayersPieces(whitePieces, blackPieces); // set white & black pieces in GamePanel attributes
-    }
-
-    /**
-     * Set white and black kings castling tiles
-     */
-    public void setCastlingTiles() {
-        whitePlayer.getWhiteKingType().markCastlingTile(PieceColor.WHITE);
-        whitePlayer.getWhiteKingType().setCastlingTiles();
-        blackPlayer.getBlackKingType().markCastlingTile(PieceColor.BLACK);
-        blackPlayer.getBlackKingType().setCastlingTiles();
     }
 
     /**